@@ -0,0 +1,131 @@
+package com.hecookin.chemlibmekanized;
+
+import com.hecookin.chemlibmekanized.recipe.MachineRecipeIndex;
+import com.hecookin.chemlibmekanized.recipe.MachineRecipeIndexBenchmark;
+import com.hecookin.chemlibmekanized.recipe.ReachabilityReport;
+import com.hecookin.chemlibmekanized.recipe.RecipeGraph;
+import com.hecookin.chemlibmekanized.registry.ChemLibCrossReference;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server /chemlib commands for pack makers and operators.
+ */
+@EventBusSubscriber(modid = ChemlibMekanized.MODID)
+public class ChemLibCommands {
+
+    private static final int DEFAULT_MATCH_ITERATIONS = 20;
+    private static final int MAX_MATCH_ITERATIONS = 1_000;
+
+    private static final AtomicBoolean ANALYZING = new AtomicBoolean();
+    private static final AtomicBoolean BENCHMARKING = new AtomicBoolean();
+
+    @SubscribeEvent
+    static void onRegisterCommands(RegisterCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal("chemlib")
+            .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+            .then(Commands.literal("analyze")
+                .executes(ChemLibCommands::analyze))
+            .then(Commands.literal("benchmark")
+                .then(Commands.literal("recipes")
+                    .executes(context -> benchmarkRecipes(context, DEFAULT_MATCH_ITERATIONS))
+                    .then(Commands.argument("iterations", IntegerArgumentType.integer(1, MAX_MATCH_ITERATIONS))
+                        .executes(context -> benchmarkRecipes(context, IntegerArgumentType.getInteger(context, "iterations")))))));
+    }
+
+    /**
+     * Work out which elements, compounds, slurries and crystals the loaded recipes can make, on the background
+     * executor, and write the report files into the server directory. The tick loop only takes the graph snapshot.
+     */
+    private static int analyze(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        if (!ANALYZING.compareAndSet(false, true)) {
+            source.sendFailure(Component.literal("A ChemLib analysis is already running"));
+            return 0;
+        }
+
+        MinecraftServer server = source.getServer();
+        RecipeGraph graph = RecipeGraph.get();
+        Path directory = server.getServerDirectory();
+        source.sendSystemMessage(Component.literal("Analyzing " + graph.edges().size() + " recipes in the background..."));
+
+        long start = System.nanoTime();
+        CompletableFuture.supplyAsync(() -> ReachabilityReport.analyze(graph, ChemLibCrossReference.get()), Util.backgroundExecutor())
+            .thenApplyAsync(report -> {
+                try {
+                    report.write(directory);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return report;
+            }, Util.ioPool())
+            .whenComplete((report, error) -> {
+                ANALYZING.set(false);
+                String message = error != null
+                    ? "ChemLib analysis failed: " + error.getMessage()
+                    : String.format(Locale.ROOT, "ChemLib analysis: %d of %d obtainable, %d dead-end recipes, in %d ms - wrote %s and %s",
+                        report.obtainable(), report.rows().size(), report.deadEnds().size(), (System.nanoTime() - start) / 1_000_000L,
+                        ReachabilityReport.CSV_FILE, ReachabilityReport.JSON_FILE);
+                sendResult(server, source, message, error);
+            });
+        return 1;
+    }
+
+    /**
+     * Match every indexed recipe's inputs by full scan and through the machine recipe index, and report both rates.
+     * Runs on the background executor: the full scan alone can outlast the server watchdog on large packs.
+     */
+    private static int benchmarkRecipes(CommandContext<CommandSourceStack> context, int iterations) {
+        CommandSourceStack source = context.getSource();
+        if (!BENCHMARKING.compareAndSet(false, true)) {
+            source.sendFailure(Component.literal("A recipe benchmark is already running"));
+            return 0;
+        }
+
+        MinecraftServer server = source.getServer();
+        RecipeManager recipeManager = server.getRecipeManager();
+        MachineRecipeIndex index = MachineRecipeIndex.get();
+        source.sendSystemMessage(Component.literal("Benchmarking recipe matching over " + iterations + " iterations in the background..."));
+
+        CompletableFuture.supplyAsync(() -> MachineRecipeIndexBenchmark.run(recipeManager, index, iterations), Util.backgroundExecutor())
+            .whenComplete((result, error) -> {
+                BENCHMARKING.set(false);
+                sendResult(server, source, error != null ? "Recipe benchmark failed: " + error.getMessage() : result, error);
+            });
+        return 1;
+    }
+
+    /**
+     * Log the outcome of a background command and send it to the command source from the server thread.
+     */
+    private static void sendResult(MinecraftServer server, CommandSourceStack source, String message, Throwable error) {
+        if (error != null) {
+            ChemlibMekanized.LOGGER.error(message, error);
+        } else {
+            ChemlibMekanized.LOGGER.info(message);
+        }
+        server.execute(() -> {
+            if (error != null) {
+                source.sendFailure(Component.literal(message));
+            } else {
+                source.sendSystemMessage(Component.literal(message));
+            }
+        });
+    }
+}
@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
 import com.hecookin.chemlibmekanized.registry.ChemlibMekanizedChemicals;
 import com.hecookin.chemlibmekanized.registry.ChemLibItemRegistry;
+import com.hecookin.chemlibmekanized.registry.ChemLibCrossReference;
 import com.hecookin.chemlibmekanized.registry.ChemLibFluidRegistry;
 import com.hecookin.chemlibmekanized.integration.MekanismChemLibIntegration;
 import com.hecookin.chemlibmekanized.integration.ImmersiveEngineeringIntegration;
@@ -64,6 +65,7 @@ public class ChemlibMekanized {
             LOGGER.info("Initializing extracted ChemLib content with Mekanism integration");
 
             MekanismChemLibIntegration.initializeChemicalMappings();
+            ChemLibCrossReference.get();
             ImmersiveEngineeringIntegration.initializeIntegration();
 
             LOGGER.info("Mekanism gas chemical integration completed successfully");
@@ -1,22 +1,34 @@
 package com.hecookin.chemlibmekanized;
 
 import com.hecookin.chemlibmekanized.client.ChemLibColorProviders;
+import com.hecookin.chemlibmekanized.client.renderer.AbbreviationRenderer;
+import com.hecookin.chemlibmekanized.client.screen.PeriodicTableLayout;
+import com.hecookin.chemlibmekanized.client.screen.PeriodicTableScreen;
+import com.hecookin.chemlibmekanized.items.CachedTooltip;
 import com.hecookin.chemlibmekanized.registry.ChemLibFluidRegistry;
+import com.hecookin.chemlibmekanized.registry.ChemLibItemRegistry;
 import net.minecraft.client.Minecraft;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.Item;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
+import net.neoforged.neoforge.client.event.ModelEvent;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
 import net.neoforged.neoforge.client.event.RegisterColorHandlersEvent;
 import net.neoforged.neoforge.client.extensions.common.RegisterClientExtensionsEvent;
 import net.neoforged.neoforge.client.extensions.common.IClientFluidTypeExtensions;
 import net.neoforged.neoforge.client.gui.ConfigurationScreen;
 import net.neoforged.neoforge.client.gui.IConfigScreenFactory;
+import net.neoforged.neoforge.registries.DeferredHolder;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.stream.Stream;
+
 // This class will not load on dedicated servers. Accessing client side code from here is safe.
 @Mod(value = ChemlibMekanized.MODID, dist = Dist.CLIENT)
 // You can use EventBusSubscriber to automatically register all static methods in the class annotated with @SubscribeEvent
@@ -34,6 +46,9 @@ public class ChemlibMekanizedClient {
         // Some client setup code
         ChemlibMekanized.LOGGER.info("HELLO FROM CLIENT SETUP");
         ChemlibMekanized.LOGGER.info("MINECRAFT NAME >> {}", Minecraft.getInstance().getUser().getName());
+
+        // Build the periodic table now so opening the screen is instant
+        PeriodicTableLayout.get();
     }
 
     @SubscribeEvent
@@ -43,11 +58,32 @@ public class ChemlibMekanizedClient {
         ChemlibMekanized.LOGGER.info("ChemLib item color providers registered");
     }
 
+    @SubscribeEvent
+    static void onRegisterClientReloadListeners(RegisterClientReloadListenersEvent event) {
+        // Clears the renderer's per-item model cache whenever models are rebaked
+        event.registerReloadListener(AbbreviationRenderer.INSTANCE);
+        // Tooltip lines are rebuilt after every reload, which includes language changes
+        event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> CachedTooltip.invalidateAll());
+        // The periodic table canvas is recomposed from the reloaded texture on next use
+        event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> PeriodicTableScreen.invalidateCanvas());
+    }
+
     @SubscribeEvent
     static void onRegisterClientExtensions(RegisterClientExtensionsEvent event) {
         ChemlibMekanized.LOGGER.info("Registering ChemLib fluid extensions");
         registerFluidExtensions(event);
         ChemlibMekanized.LOGGER.info("ChemLib fluid extensions registered");
+
+        // One shared renderer for all element and compound items; used by items whose model is builtin/entity
+        event.registerItem(AbbreviationRenderer.RENDERER, Stream.concat(
+                ChemLibItemRegistry.ELEMENT_ITEMS.values().stream(), ChemLibItemRegistry.COMPOUND_ITEMS.values().stream())
+            .map(DeferredHolder::get)
+            .toArray(Item[]::new));
+    }
+
+    @SubscribeEvent
+    static void onRegisterAdditionalModels(ModelEvent.RegisterAdditional event) {
+        AbbreviationRenderer.registerTemplateModels(event);
     }
 
     /**
@@ -19,9 +19,17 @@ public class Config {
 
     // ChemLib Renderer Configuration
     public static final ModConfigSpec.BooleanValue RENDER_ABBREVIATIONS = BUILDER
-            .comment("Whether to render chemical abbreviations on items")
+            .comment("Whether to render chemical abbreviations on items.",
+                     "Only applies to element and compound items whose model a resource pack sets to builtin/entity;",
+                     "the default layered item models are drawn without abbreviations")
             .define("renderAbbreviations", true);
 
+    public static final ModConfigSpec.EnumValue<AbbreviationRenderMode> ABBREVIATION_RENDER_MODE = BUILDER
+            .comment("How chemical abbreviations are drawn when renderAbbreviations is enabled.",
+                     "BAKED_MESH replays glyph quads laid out once per resource reload; FONT lays the text out every frame;",
+                     "ATLAS draws one textured quad per item from an atlas of every abbreviation rasterized after each reload")
+            .defineEnum("abbreviationRenderMode", AbbreviationRenderMode.BAKED_MESH);
+
     public static final ModConfigSpec.BooleanValue LOG_DIRT_BLOCK = BUILDER
             .comment("Whether to log the dirt block on common setup")
             .define("logDirtBlock", true);
@@ -41,6 +49,15 @@ public class Config {
 
     static final ModConfigSpec SPEC = BUILDER.build();
 
+    public enum AbbreviationRenderMode {
+        /** Font.drawInBatch on every render, the original path. */
+        FONT,
+        /** Glyph quads captured from the font once per reload and replayed. */
+        BAKED_MESH,
+        /** One quad per item, sampled from an {@code AbbreviationAtlas} texture built once per reload. */
+        ATLAS
+    }
+
     private static boolean validateItemName(final Object obj) {
         return obj instanceof String itemName && BuiltInRegistries.ITEM.containsKey(ResourceLocation.parse(itemName));
     }
@@ -6,4 +6,5 @@ public interface Chemical {
     String getChemicalName();
     MatterState getMatterState();
     ChemicalType getChemicalType();
+    ModelTemplate getModelTemplate();
 }
\ No newline at end of file
@@ -1,5 +1,30 @@
 package com.hecookin.chemlibmekanized.api;
 
 public enum MatterState {
-    SOLID, LIQUID, GAS
-}
\ No newline at end of file
+    SOLID("solid"), LIQUID("liquid"), GAS("gas");
+
+    private final String name;
+
+    MatterState(String name) {
+        this.name = name;
+    }
+
+    /**
+     * The lower-case name used by ChemLib data, model names and registry ids.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the matter state with this ChemLib name (case-insensitive), or null if there is none
+     */
+    public static MatterState byName(String name) {
+        for (MatterState state : values()) {
+            if (state.name.equalsIgnoreCase(name)) {
+                return state;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.hecookin.chemlibmekanized.api;
+
+public enum MetalType {
+    METAL("metal"), METALLOID("metalloid"), NONMETAL("nonmetal");
+
+    private final String name;
+
+    MetalType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * The lower-case name used by ChemLib data.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the metal type with this ChemLib name (case-insensitive), or null if there is none
+     */
+    public static MetalType byName(String name) {
+        for (MetalType type : values()) {
+            if (type.name.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hecookin.chemlibmekanized.api;
+
+/**
+ * The layered template a chemical item is drawn with: element or compound, by matter state,
+ * plus the dust variant solid compounds with a ChemLib item use. Chosen once when the chemical's data is loaded.
+ */
+public enum ModelTemplate {
+    ELEMENT_SOLID("element_solid"),
+    ELEMENT_LIQUID("element_liquid"),
+    ELEMENT_GAS("element_gas"),
+    COMPOUND_SOLID("compound_solid"),
+    COMPOUND_LIQUID("compound_liquid"),
+    COMPOUND_GAS("compound_gas"),
+    COMPOUND_DUST("compound_dust");
+
+    private final String name;
+
+    ModelTemplate(String name) {
+        this.name = name;
+    }
+
+    /**
+     * The template's base name, also the prefix of its layer textures (e.g. "compound_dust").
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The template's item model name (e.g. "compound_dust_model").
+     */
+    public String getModelName() {
+        return name + "_model";
+    }
+
+    public static ModelTemplate forElement(MatterState matterState) {
+        return switch (matterState) {
+            case SOLID -> ELEMENT_SOLID;
+            case LIQUID -> ELEMENT_LIQUID;
+            case GAS -> ELEMENT_GAS;
+        };
+    }
+
+    /**
+     * The item model datagen has always generated: solid compounds that ChemLib gives an item are dust.
+     */
+    public static ModelTemplate forCompound(MatterState matterState, boolean hasItem) {
+        return switch (matterState) {
+            case SOLID -> hasItem ? COMPOUND_DUST : COMPOUND_SOLID;
+            case LIQUID -> COMPOUND_LIQUID;
+            case GAS -> COMPOUND_GAS;
+        };
+    }
+}
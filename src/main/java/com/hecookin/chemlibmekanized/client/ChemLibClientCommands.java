@@ -0,0 +1,182 @@
+package com.hecookin.chemlibmekanized.client;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.Config;
+import com.hecookin.chemlibmekanized.client.benchmark.ItemRenderBenchmarkScreen;
+import com.hecookin.chemlibmekanized.client.renderer.AbbreviationRenderer;
+import com.hecookin.chemlibmekanized.registry.ChemLibItemRegistry;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.color.item.ItemColors;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RegisterClientCommandsEvent;
+import net.neoforged.neoforge.registries.DeferredHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client-only /chemlibclient commands: rendering benchmarks for the ChemLib item set.
+ */
+@EventBusSubscriber(modid = ChemlibMekanized.MODID, value = Dist.CLIENT)
+public class ChemLibClientCommands {
+
+    private static final int WARMUP_FRAMES = 60;
+    private static final int DEFAULT_FRAMES = 600;
+    private static final int DEFAULT_TINT_ITERATIONS = 10_000;
+
+    @SubscribeEvent
+    static void onRegisterClientCommands(RegisterClientCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal("chemlibclient")
+            .then(Commands.literal("benchmark")
+                .then(Commands.literal("items")
+                    .executes(context -> benchmarkItems(context, DEFAULT_FRAMES))
+                    .then(Commands.argument("frames", IntegerArgumentType.integer(10, 100_000))
+                        .executes(context -> benchmarkItems(context, IntegerArgumentType.getInteger(context, "frames")))))
+                .then(Commands.literal("abbreviations")
+                    .executes(context -> benchmarkAbbreviations(context, DEFAULT_FRAMES))
+                    .then(Commands.argument("frames", IntegerArgumentType.integer(10, 100_000))
+                        .executes(context -> benchmarkAbbreviations(context, IntegerArgumentType.getInteger(context, "frames")))))
+                .then(Commands.literal("tints")
+                    .executes(context -> benchmarkTints(context, DEFAULT_TINT_ITERATIONS))
+                    .then(Commands.argument("iterations", IntegerArgumentType.integer(1, 1_000_000))
+                        .executes(context -> benchmarkTints(context, IntegerArgumentType.getInteger(context, "iterations")))))));
+    }
+
+    /**
+     * Draw every ChemLib item in a grid for the given number of frames and report frame times.
+     */
+    private static int benchmarkItems(CommandContext<CommandSourceStack> context, int frames) {
+        List<ItemStack> stacks = allChemLibStacks();
+        context.getSource().sendSystemMessage(Component.literal(
+            "Rendering " + stacks.size() + " ChemLib items for " + (WARMUP_FRAMES + frames) + " frames..."));
+
+        Minecraft minecraft = Minecraft.getInstance();
+        // Opened on the next tick, after the chat screen has closed
+        minecraft.tell(() -> minecraft.setScreen(new ItemRenderBenchmarkScreen("items", stacks, WARMUP_FRAMES, frames,
+            ChemLibClientCommands::report)));
+        return 1;
+    }
+
+    /**
+     * Draw every element and compound through the abbreviation renderer once per render mode, back to back,
+     * and report frame times for each. The configured mode is restored afterwards.
+     */
+    private static int benchmarkAbbreviations(CommandContext<CommandSourceStack> context, int frames) {
+        List<ItemStack> stacks = new ArrayList<>();
+        for (Map<String, DeferredHolder<Item, Item>> items : List.of(ChemLibItemRegistry.ELEMENT_ITEMS, ChemLibItemRegistry.COMPOUND_ITEMS)) {
+            for (DeferredHolder<Item, Item> holder : items.values()) {
+                stacks.add(new ItemStack(holder.get()));
+            }
+        }
+        List<Config.AbbreviationRenderMode> modes = List.of(Config.AbbreviationRenderMode.values());
+        context.getSource().sendSystemMessage(Component.literal(
+            "Rendering " + stacks.size() + " chemicals with abbreviations for " + (WARMUP_FRAMES + frames) + " frames in each of " + modes + "..."));
+
+        Config.AbbreviationRenderMode configured = Config.ABBREVIATION_RENDER_MODE.get();
+        Minecraft minecraft = Minecraft.getInstance();
+        minecraft.tell(() -> runAbbreviationBenchmark(stacks, frames, modes, 0, configured));
+        return 1;
+    }
+
+    private static void runAbbreviationBenchmark(List<ItemStack> stacks, int frames, List<Config.AbbreviationRenderMode> modes,
+                                                 int index, Config.AbbreviationRenderMode configured) {
+        if (index == modes.size()) {
+            Config.ABBREVIATION_RENDER_MODE.set(configured);
+            return;
+        }
+        Config.AbbreviationRenderMode mode = modes.get(index);
+        Config.ABBREVIATION_RENDER_MODE.set(mode);
+        Minecraft.getInstance().setScreen(new ItemRenderBenchmarkScreen("abbreviations " + mode, stacks, WARMUP_FRAMES, frames,
+            ChemLibClientCommands::drawWithAbbreviationRenderer,
+            result -> {
+                report(result);
+                runAbbreviationBenchmark(stacks, frames, modes, index + 1, configured);
+            }));
+    }
+
+    /**
+     * Draw through AbbreviationRenderer directly, with the pose the item renderer sets up for a GUI item.
+     * The renderer is not registered as an item extension, so renderItem would never reach it.
+     */
+    private static void drawWithAbbreviationRenderer(GuiGraphics graphics, ItemStack stack, int x, int y) {
+        PoseStack poseStack = graphics.pose();
+        poseStack.pushPose();
+        poseStack.translate(x + 8, y + 8, 150);
+        poseStack.scale(16.0f, -16.0f, 16.0f);
+        poseStack.translate(-0.5f, -0.5f, -0.5f);
+        AbbreviationRenderer.INSTANCE.renderByItem(stack, ItemDisplayContext.GUI, poseStack, graphics.bufferSource(),
+            LightTexture.FULL_BRIGHT, OverlayTexture.NO_OVERLAY);
+        poseStack.popPose();
+    }
+
+    /**
+     * Query the registered item color handler for every ChemLib item, as the item renderer does per frame.
+     */
+    private static int benchmarkTints(CommandContext<CommandSourceStack> context, int iterations) {
+        List<ItemStack> stacks = allChemLibStacks();
+        ItemColors itemColors = Minecraft.getInstance().getItemColors();
+
+        int sink = 0;
+        // Warm up the handlers before timing
+        for (int i = 0; i < Math.max(1, iterations / 10); i++) {
+            for (ItemStack stack : stacks) {
+                sink ^= itemColors.getColor(stack, 0);
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (ItemStack stack : stacks) {
+                sink ^= itemColors.getColor(stack, 0);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long queries = (long) iterations * stacks.size();
+        String message = String.format("Tint queries: %d items x %d iterations - %.1f ns/query, %.3f ms per full pass (checksum %08x)",
+            stacks.size(), iterations, (double) elapsed / Math.max(1, queries), elapsed / 1_000_000.0 / iterations, sink);
+        ChemlibMekanized.LOGGER.info(message);
+        context.getSource().sendSystemMessage(Component.literal(message));
+        return 1;
+    }
+
+    private static void report(ItemRenderBenchmarkScreen.Result result) {
+        String message = result.describe();
+        ChemlibMekanized.LOGGER.info("Render benchmark - {}", message);
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.player != null) {
+            minecraft.player.displayClientMessage(Component.literal(message), false);
+        }
+    }
+
+    /**
+     * One stack of every ChemLib item: elements, compounds, ingots, nuggets, plates and crystals.
+     */
+    static List<ItemStack> allChemLibStacks() {
+        List<ItemStack> stacks = new ArrayList<>();
+        for (Map<String, DeferredHolder<Item, Item>> items : List.of(
+                ChemLibItemRegistry.ELEMENT_ITEMS, ChemLibItemRegistry.COMPOUND_ITEMS,
+                ChemLibItemRegistry.METAL_INGOT_ITEMS, ChemLibItemRegistry.METAL_NUGGET_ITEMS,
+                ChemLibItemRegistry.METAL_PLATE_ITEMS, ChemLibItemRegistry.METAL_CRYSTAL_ITEMS)) {
+            for (DeferredHolder<Item, Item> holder : items.values()) {
+                stacks.add(new ItemStack(holder.get()));
+            }
+        }
+        return stacks;
+    }
+}
@@ -0,0 +1,131 @@
+package com.hecookin.chemlibmekanized.client.benchmark;
+
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Client benchmark screen that draws every given item stack in a grid each frame,
+ * like a full creative tab or storage terminal, and reports frame times.
+ * Used by the /chemlibclient benchmark commands.
+ */
+public class ItemRenderBenchmarkScreen extends Screen {
+
+    private static final int CELL_SIZE = 18;
+    private static final int MARGIN = 4;
+
+    private final String label;
+    private final List<ItemStack> stacks;
+    private final int warmupFrames;
+    private final long[] frameNanos;
+    private final long[] itemNanos;
+    private final ItemDrawer drawer;
+    private final Consumer<Result> onFinish;
+
+    private int frame = 0;
+    private long lastFrameStart = 0;
+    private boolean finished = false;
+
+    public ItemRenderBenchmarkScreen(String label, List<ItemStack> stacks, int warmupFrames, int measuredFrames,
+                                     Consumer<Result> onFinish) {
+        this(label, stacks, warmupFrames, measuredFrames, GuiGraphics::renderItem, onFinish);
+    }
+
+    public ItemRenderBenchmarkScreen(String label, List<ItemStack> stacks, int warmupFrames, int measuredFrames,
+                                     ItemDrawer drawer, Consumer<Result> onFinish) {
+        super(Component.literal("ChemLib render benchmark: " + label));
+        this.label = label;
+        this.stacks = List.copyOf(stacks);
+        this.warmupFrames = warmupFrames;
+        this.frameNanos = new long[measuredFrames];
+        this.itemNanos = new long[measuredFrames];
+        this.drawer = drawer;
+        this.onFinish = onFinish;
+    }
+
+    @Override
+    public void render(GuiGraphics graphics, int mouseX, int mouseY, float partialTick) {
+        // Deliberately no background or widgets, only the items are drawn
+        long frameStart = System.nanoTime();
+        int sample = frame - warmupFrames - 1;
+        if (sample >= 0 && sample < frameNanos.length) {
+            // Full interval between frames: everything the client did, not just our items
+            frameNanos[sample] = frameStart - lastFrameStart;
+        }
+        lastFrameStart = frameStart;
+
+        int columns = Math.max(1, (this.width - MARGIN * 2) / CELL_SIZE);
+        for (int i = 0; i < stacks.size(); i++) {
+            int x = MARGIN + (i % columns) * CELL_SIZE;
+            int y = MARGIN + (i / columns) * CELL_SIZE;
+            drawer.draw(graphics, stacks.get(i), x, y);
+        }
+        // Flush so the batched item geometry is submitted inside the measured section
+        graphics.flush();
+
+        int itemSample = frame - warmupFrames;
+        if (itemSample >= 0 && itemSample < itemNanos.length) {
+            itemNanos[itemSample] = System.nanoTime() - frameStart;
+        }
+
+        frame++;
+        if (!finished && frame > warmupFrames + frameNanos.length) {
+            finished = true;
+            Result result = new Result(label, stacks.size(), frameNanos.length, frameNanos, itemNanos);
+            // Swap screens outside of the render pass
+            this.minecraft.tell(() -> {
+                this.minecraft.setScreen(null);
+                onFinish.accept(result);
+            });
+        }
+    }
+
+    @Override
+    public boolean isPauseScreen() {
+        return false;
+    }
+
+    /**
+     * Draws one stack into its 16x16 grid cell; {@link GuiGraphics#renderItem(ItemStack, int, int)} by default.
+     */
+    @FunctionalInterface
+    public interface ItemDrawer {
+        void draw(GuiGraphics graphics, ItemStack stack, int x, int y);
+    }
+
+    /**
+     * Frame-time summary of one benchmark run, in milliseconds.
+     */
+    public record Result(String label, int itemCount, int frames, double averageFrameMs, double p99FrameMs,
+                         double averageItemMs, double p99ItemMs) {
+
+        Result(String label, int itemCount, int frames, long[] frameNanos, long[] itemNanos) {
+            this(label, itemCount, frames, average(frameNanos), percentile(frameNanos, 0.99),
+                average(itemNanos), percentile(itemNanos, 0.99));
+        }
+
+        public String describe() {
+            return String.format("%s: %d items, %d frames - frame avg %.3f ms (p99 %.3f ms), item draw avg %.3f ms (p99 %.3f ms)",
+                label, itemCount, frames, averageFrameMs, p99FrameMs, averageItemMs, p99ItemMs);
+        }
+
+        private static double average(long[] nanos) {
+            return Arrays.stream(nanos).average().orElse(0) / 1_000_000.0;
+        }
+
+        private static double percentile(long[] nanos, double percentile) {
+            if (nanos.length == 0) {
+                return 0;
+            }
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.hecookin.chemlibmekanized.client.renderer;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.mojang.blaze3d.pipeline.TextureTarget;
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.ByteBufferBuilder;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.blaze3d.vertex.VertexSorting;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.resources.ResourceLocation;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fStack;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL30;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Every chemical abbreviation rasterized once into a single dynamic texture, so each item
+ * draws one textured quad instead of laying out and emitting per-glyph quads.
+ *
+ * <p>Built on the render thread once per resource reload, after the reloaded font is in place: the strings are
+ * drawn into an off-screen target with the normal font renderer, read back and uploaded as a
+ * {@link DynamicTexture}, replacing the previous atlas. The previously bound framebuffer, viewport and
+ * matrices are restored afterwards. Text is rasterized at one texel per font unit,
+ * so glyphs keep their pixels.</p>
+ */
+public final class AbbreviationAtlas {
+
+    public static final ResourceLocation LOCATION = ResourceLocation.fromNamespaceAndPath(ChemlibMekanized.MODID, "dynamic/abbreviation_atlas");
+
+    private static final int ATLAS_WIDTH = 512;
+    private static final int MAX_ATLAS_HEIGHT = 4096;
+    // One spare texel on each side of a cell so neighbours never bleed into each other
+    private static final int PADDING = 1;
+
+    private final Map<String, Entry> entries;
+    private final RenderType renderType;
+
+    private AbbreviationAtlas(Map<String, Entry> entries) {
+        this.entries = entries;
+        this.renderType = RenderType.text(LOCATION);
+    }
+
+    /**
+     * Location of one abbreviation in the atlas, with its size in font units.
+     */
+    public record Entry(float u0, float v0, float u1, float v1, int width, int height) {
+    }
+
+    /**
+     * Rasterize the given strings and register the result as {@link #LOCATION}.
+     * Must be called on the render thread.
+     */
+    public static AbbreviationAtlas build(Font font, Collection<String> texts) {
+        RenderSystem.assertOnRenderThread();
+        long start = System.nanoTime();
+
+        // Shelf packing: fill rows left to right, all rows one line high
+        Set<String> unique = new LinkedHashSet<>(texts);
+        unique.removeIf(text -> text == null || text.isEmpty());
+        int rowHeight = font.lineHeight + 1 + PADDING * 2; // +1 for the drop shadow
+        Map<String, int[]> placements = new HashMap<>();
+        int x = 0;
+        int y = 0;
+        for (String text : unique) {
+            int cellWidth = Math.min(ATLAS_WIDTH, font.width(text) + 1 + PADDING * 2);
+            if (x + cellWidth > ATLAS_WIDTH) {
+                x = 0;
+                y += rowHeight;
+            }
+            placements.put(text, new int[] {x, y, cellWidth - PADDING * 2});
+            x += cellWidth;
+        }
+        int height = Math.min(MAX_ATLAS_HEIGHT, Integer.highestOneBit(Math.max(1, y + rowHeight) - 1) << 1);
+
+        // Whatever is bound now (the main target, or a GUI or mod framebuffer) is bound again afterwards
+        int previousFramebuffer = GlStateManager._getInteger(GL30.GL_FRAMEBUFFER_BINDING);
+        int[] previousViewport = new int[4];
+        GL11.glGetIntegerv(GL11.GL_VIEWPORT, previousViewport);
+
+        TextureTarget target = new TextureTarget(ATLAS_WIDTH, height, false, Minecraft.ON_OSX);
+        Map<String, Entry> entries = new HashMap<>();
+        RenderSystem.backupProjectionMatrix();
+        Matrix4fStack modelView = RenderSystem.getModelViewStack();
+        modelView.pushMatrix();
+        try {
+            target.setClearColor(0, 0, 0, 0);
+            target.clear(Minecraft.ON_OSX);
+            target.bindWrite(true);
+
+            RenderSystem.setProjectionMatrix(new Matrix4f().setOrtho(0, ATLAS_WIDTH, height, 0, -1000, 1000), VertexSorting.ORTHOGRAPHIC_Z);
+            modelView.identity();
+            RenderSystem.applyModelViewMatrix();
+
+            try (ByteBufferBuilder bytes = new ByteBufferBuilder(256 * 1024)) {
+                MultiBufferSource.BufferSource buffer = MultiBufferSource.immediate(bytes);
+                Matrix4f pose = new Matrix4f();
+                for (Map.Entry<String, int[]> placement : placements.entrySet()) {
+                    int[] cell = placement.getValue();
+                    if (cell[1] + rowHeight > height) {
+                        ChemlibMekanized.LOGGER.warn("Abbreviation atlas is full, '{}' will use glyph meshes", placement.getKey());
+                        continue;
+                    }
+                    int left = cell[0] + PADDING;
+                    int top = cell[1] + PADDING;
+                    font.drawInBatch(placement.getKey(), left, top, 0xFFFFFF, true, pose, buffer,
+                                     Font.DisplayMode.NORMAL, 0, LightTexture.FULL_BRIGHT);
+                    int cellHeight = font.lineHeight + 1;
+                    entries.put(placement.getKey(), new Entry(
+                        (float) left / ATLAS_WIDTH, (float) top / height,
+                        (float) (left + cell[2]) / ATLAS_WIDTH, (float) (top + cellHeight) / height,
+                        cell[2], cellHeight));
+                }
+                buffer.endBatch();
+            }
+
+            // Read back; GL rows start at the bottom, our layout at the top
+            NativeImage image = new NativeImage(NativeImage.Format.RGBA, ATLAS_WIDTH, height, false);
+            RenderSystem.bindTexture(target.getColorTextureId());
+            image.downloadTexture(0, false);
+            image.flipY();
+            Minecraft.getInstance().getTextureManager().register(LOCATION, new DynamicTexture(image));
+        } finally {
+            modelView.popMatrix();
+            RenderSystem.applyModelViewMatrix();
+            RenderSystem.restoreProjectionMatrix();
+            // destroyBuffers unbinds to framebuffer 0, so restore the previous binding after it
+            target.destroyBuffers();
+            GlStateManager._glBindFramebuffer(GL30.GL_FRAMEBUFFER, previousFramebuffer);
+            RenderSystem.viewport(previousViewport[0], previousViewport[1], previousViewport[2], previousViewport[3]);
+        }
+
+        ChemlibMekanized.LOGGER.info("Built abbreviation atlas {}x{} with {} entries in {} ms",
+            ATLAS_WIDTH, height, entries.size(), (System.nanoTime() - start) / 1_000_000L);
+        return new AbbreviationAtlas(Map.copyOf(entries));
+    }
+
+    /**
+     * @return the atlas entry for this text, or null if it was not rasterized
+     */
+    public Entry get(String text) {
+        return text != null ? entries.get(text) : null;
+    }
+
+    /**
+     * Draw one atlas entry as a single quad, laid out like the font would (origin top-left, y down).
+     * Allocation-free.
+     */
+    public void render(Entry entry, Matrix4f pose, MultiBufferSource buffer, int light) {
+        VertexConsumer consumer = buffer.getBuffer(renderType);
+        float width = entry.width();
+        float height = entry.height();
+        addVertex(consumer, pose, 0, 0, entry.u0(), entry.v0(), light);
+        addVertex(consumer, pose, 0, height, entry.u0(), entry.v1(), light);
+        addVertex(consumer, pose, width, height, entry.u1(), entry.v1(), light);
+        addVertex(consumer, pose, width, 0, entry.u1(), entry.v0(), light);
+    }
+
+    private static void addVertex(VertexConsumer consumer, Matrix4f pose, float x, float y, float u, float v, int light) {
+        // Inline affine transform, as in BakedTextMesh
+        consumer.addVertex(
+                pose.m00() * x + pose.m10() * y + pose.m30(),
+                pose.m01() * x + pose.m11() * y + pose.m31(),
+                pose.m02() * x + pose.m12() * y + pose.m32())
+            .setColor(0xFFFFFFFF)
+            .setUv(u, v)
+            .setLight(light);
+    }
+}
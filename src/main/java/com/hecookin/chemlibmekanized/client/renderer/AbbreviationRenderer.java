@@ -3,8 +3,8 @@ package com.hecookin.chemlibmekanized.client.renderer;
 import com.hecookin.chemlibmekanized.ChemlibMekanized;
 import com.hecookin.chemlibmekanized.Config;
 import com.hecookin.chemlibmekanized.api.Chemical;
-import com.hecookin.chemlibmekanized.api.ChemicalType;
-import com.hecookin.chemlibmekanized.api.MatterState;
+import com.hecookin.chemlibmekanized.api.ModelTemplate;
+import com.hecookin.chemlibmekanized.registry.ChemLibItemRegistry;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BlockEntityWithoutLevelRenderer;
@@ -13,27 +13,115 @@ import net.minecraft.client.renderer.entity.ItemRenderer;
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.ModelResourceLocation;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.client.event.ModelEvent;
 import net.neoforged.neoforge.client.extensions.common.IClientItemExtensions;
-
-import java.util.function.Supplier;
-
+import net.neoforged.neoforge.registries.DeferredHolder;
+import org.joml.Matrix4f;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders chemical items from their shared template model plus an abbreviation overlay.
+ *
+ * <p>{@link #RENDERER} is registered for every element and compound item, but the game only calls it for items
+ * whose model is {@code builtin/entity}. The shipped element and compound models are layered
+ * {@code item/generated} models, so by default these items are drawn without this renderer and the caches
+ * below cost nothing; they apply to items a resource pack switches to {@code builtin/entity}.</p>
+ *
+ * <p>A single instance is shared by every chemical item. Each item's template model is resolved
+ * once and cached until the next resource reload, so the per-frame path does no registry lookups,
+ * string building or ModelResourceLocation allocation. The cache is only touched on the render thread.</p>
+ *
+ * <p>Abbreviations are drawn from {@link BakedTextMesh}es laid out once per reload, unless
+ * {@link Config#ABBREVIATION_RENDER_MODE} selects the original per-frame font path or the
+ * {@link AbbreviationAtlas}, which is rasterized on each resource reload.</p>
+ */
 public class AbbreviationRenderer extends BlockEntityWithoutLevelRenderer {
 
-    public static final Supplier<BlockEntityWithoutLevelRenderer> INSTANCE = () -> new AbbreviationRenderer();
+    public static final AbbreviationRenderer INSTANCE = new AbbreviationRenderer();
 
     public static final IClientItemExtensions RENDERER = new IClientItemExtensions() {
         @Override
         public BlockEntityWithoutLevelRenderer getCustomRenderer() {
-            return INSTANCE.get();
+            return INSTANCE;
         }
     };
 
-    public AbbreviationRenderer() {
+    // Template model locations, shared by every item using the same template
+    private static final Map<ModelTemplate, ModelResourceLocation> TEMPLATE_LOCATIONS = createTemplateLocations();
+
+    // Abbreviation transforms relative to the item's context-transformed pose, per display context
+    private static final Map<ItemDisplayContext, Matrix4f> ABBREVIATION_TRANSFORMS = createAbbreviationTransforms();
+
+    private final Map<Item, BakedModel> modelCache = new IdentityHashMap<>();
+    private final Map<Item, BakedTextMesh> abbreviationMeshes = new IdentityHashMap<>();
+    private final Map<Item, AbbreviationAtlas.Entry> atlasEntries = new IdentityHashMap<>();
+    private AbbreviationAtlas atlas;
+    private final Matrix4f abbreviationPose = new Matrix4f();
+
+    private AbbreviationRenderer() {
         super(null, null);
     }
 
+    /**
+     * Drop the cached models and glyph meshes, and rebuild the abbreviation atlas; they belong to the previous
+     * model bake and font. Registered as a client reload listener in ChemlibMekanizedClient.
+     */
+    @Override
+    public void onResourceManagerReload(ResourceManager resourceManager) {
+        // No super call: the vanilla implementation bakes shield/trident models we never use
+        modelCache.clear();
+        abbreviationMeshes.clear();
+        atlasEntries.clear();
+        // Mod listeners apply on the render thread after every vanilla one, so the font has already reloaded
+        try {
+            atlas = AbbreviationAtlas.build(Minecraft.getInstance().font, collectAbbreviations());
+        } catch (RuntimeException e) {
+            // ATLAS mode falls back to glyph meshes
+            atlas = null;
+            ChemlibMekanized.LOGGER.error("Failed to build the abbreviation atlas", e);
+        }
+    }
+
+    private static Map<ModelTemplate, ModelResourceLocation> createTemplateLocations() {
+        Map<ModelTemplate, ModelResourceLocation> locations = new EnumMap<>(ModelTemplate.class);
+        for (ModelTemplate template : ModelTemplate.values()) {
+            // No item has a template's name, so templates are baked as standalone models
+            locations.put(template, ModelResourceLocation.standalone(
+                ResourceLocation.fromNamespaceAndPath(ChemlibMekanized.MODID, "item/" + template.getModelName())));
+        }
+        return locations;
+    }
+
+    /**
+     * Ask the model bake for every template model. Called from ChemlibMekanizedClient.
+     */
+    public static void registerTemplateModels(ModelEvent.RegisterAdditional event) {
+        TEMPLATE_LOCATIONS.values().forEach(event::register);
+    }
+
+    private static Map<ItemDisplayContext, Matrix4f> createAbbreviationTransforms() {
+        Map<ItemDisplayContext, Matrix4f> transforms = new EnumMap<>(ItemDisplayContext.class);
+        // Same placements as the FONT path below
+        transforms.put(ItemDisplayContext.GUI, new Matrix4f().translate(0.75f, 0.75f, 0.1f).scale(0.5f, 0.5f, 1.0f));
+        transforms.put(ItemDisplayContext.FIRST_PERSON_LEFT_HAND, new Matrix4f().translate(-0.2f, 0.2f, 0.1f).scale(0.2f, 0.2f, 1.0f));
+        transforms.put(ItemDisplayContext.THIRD_PERSON_LEFT_HAND, new Matrix4f().translate(-0.2f, 0.2f, 0.1f).scale(0.2f, 0.2f, 1.0f));
+        transforms.put(ItemDisplayContext.FIRST_PERSON_RIGHT_HAND, new Matrix4f().translate(0.2f, 0.2f, 0.1f).scale(0.2f, 0.2f, 1.0f));
+        transforms.put(ItemDisplayContext.THIRD_PERSON_RIGHT_HAND, new Matrix4f().translate(0.2f, 0.2f, 0.1f).scale(0.2f, 0.2f, 1.0f));
+        // Ground additionally faces the camera, applied per frame
+        transforms.put(ItemDisplayContext.GROUND, new Matrix4f().translate(0.0f, 1.2f, 0.0f).scale(0.1f, 0.1f, 1.0f));
+        transforms.put(ItemDisplayContext.FIXED, new Matrix4f().translate(0.5f, 0.5f, 0.1f).scale(0.25f, 0.25f, 1.0f));
+        return transforms;
+    }
+
     @Override
     public void renderByItem(ItemStack stack, ItemDisplayContext context, PoseStack poseStack,
                            MultiBufferSource buffer, int light, int overlay) {
@@ -57,7 +145,7 @@ public class AbbreviationRenderer extends BlockEntityWithoutLevelRenderer {
             itemRenderer.render(stack, context, false, poseStack, buffer, light, overlay, model);
 
             // Render abbreviation overlay if configured
-            renderAbbreviation(chemical, poseStack, context, buffer, light);
+            renderAbbreviation(stack.getItem(), chemical, poseStack, context, buffer, light);
 
             poseStack.popPose();
         } else {
@@ -66,49 +154,16 @@ public class AbbreviationRenderer extends BlockEntityWithoutLevelRenderer {
     }
 
     private BakedModel getModelForItem(ItemStack stack, Chemical chemical) {
-        Minecraft minecraft = Minecraft.getInstance();
-
-        // Get the item's registry name for debugging
-        ResourceLocation itemId = minecraft.level != null ?
-            minecraft.level.registryAccess().registryOrThrow(net.minecraft.core.registries.Registries.ITEM)
-                .getKey(stack.getItem()) : null;
-
-
-        // Build template model name based on chemical type and matter state
-        String templateName = getTemplateModelName(chemical);
-
-
-        // Get the template model directly from model manager
-        ModelResourceLocation templateLocation = new ModelResourceLocation(
-            ResourceLocation.fromNamespaceAndPath(ChemlibMekanized.MODID, templateName), "inventory");
-
-        BakedModel model = minecraft.getModelManager().getModel(templateLocation);
-
-
-        return model;
-    }
-
-    private String getTemplateModelName(Chemical chemical) {
-        // Determine template based on chemical type and matter state
-        String prefix = chemical.getChemicalType() == ChemicalType.ELEMENT ? "element" : "compound";
-        String suffix = switch (chemical.getMatterState()) {
-            case SOLID -> "solid";
-            case LIQUID -> "liquid";
-            case GAS -> "gas";
-        };
-
-        // Handle special compound dust state (used by some compounds)
-        if (chemical.getChemicalType() == ChemicalType.COMPOUND) {
-            // Some compounds use "dust" instead of "solid" - could be improved with better logic
-            String chemicalName = chemical.getChemicalName().toLowerCase();
-            if (chemicalName.contains("oxide") || chemicalName.contains("sulfate") ||
-                chemicalName.contains("chromate") || chemicalName.contains("purple") ||
-                chemicalName.contains("iodide")) {
-                suffix = "dust";
+        Item item = stack.getItem();
+        BakedModel model = modelCache.get(item);
+        if (model == null) {
+            // First render since the last reload: resolve the template model once
+            model = Minecraft.getInstance().getModelManager().getModel(TEMPLATE_LOCATIONS.get(chemical.getModelTemplate()));
+            if (model != null) {
+                modelCache.put(item, model);
             }
         }
-
-        return prefix + "_" + suffix + "_model";
+        return model;
     }
 
     private void applyContextTransformations(PoseStack poseStack, ItemDisplayContext context) {
@@ -146,13 +201,23 @@ public class AbbreviationRenderer extends BlockEntityWithoutLevelRenderer {
         }
     }
 
-    private void renderAbbreviation(Chemical chemical, PoseStack poseStack, ItemDisplayContext context,
+    private void renderAbbreviation(Item item, Chemical chemical, PoseStack poseStack, ItemDisplayContext context,
                                   MultiBufferSource buffer, int light) {
         // Check configuration before rendering abbreviations
         if (!Config.RENDER_ABBREVIATIONS.get()) {
             return;
         }
 
+        Config.AbbreviationRenderMode mode = Config.ABBREVIATION_RENDER_MODE.get();
+        if (mode == Config.AbbreviationRenderMode.ATLAS && renderAtlasAbbreviation(item, chemical, poseStack, context, buffer, light)) {
+            return;
+        }
+        if (mode != Config.AbbreviationRenderMode.FONT) {
+            // Also the fallback for abbreviations missing from the atlas
+            renderBakedAbbreviation(item, chemical, poseStack, context, buffer, light);
+            return;
+        }
+
         String abbreviation = chemical.getAbbreviation();
         if (abbreviation == null || abbreviation.isEmpty()) {
             return;
@@ -184,6 +249,83 @@ public class AbbreviationRenderer extends BlockEntityWithoutLevelRenderer {
         }
     }
 
+    /**
+     * Replay the item's pre-laid-out glyph quads under the cached transform for this context.
+     */
+    private void renderBakedAbbreviation(Item item, Chemical chemical, PoseStack poseStack, ItemDisplayContext context,
+                                         MultiBufferSource buffer, int light) {
+        Matrix4f transform = ABBREVIATION_TRANSFORMS.get(context);
+        if (transform == null) {
+            return;
+        }
+
+        BakedTextMesh mesh = abbreviationMeshes.get(item);
+        if (mesh == null) {
+            // First render since the last reload: lay the text out once
+            String abbreviation = chemical.getAbbreviation();
+            mesh = BakedTextMesh.bake(Minecraft.getInstance().font,
+                abbreviation != null ? abbreviation : "", 0xFFFFFF, true);
+            abbreviationMeshes.put(item, mesh);
+        }
+        if (mesh.isEmpty()) {
+            return;
+        }
+
+        abbreviationPose.set(poseStack.last().pose()).mul(transform);
+        if (context == ItemDisplayContext.GROUND) {
+            abbreviationPose.rotate(Minecraft.getInstance().getEntityRenderDispatcher().cameraOrientation());
+        }
+        mesh.render(abbreviationPose, buffer, light);
+    }
+
+    /**
+     * Draw the item's abbreviation as one quad from the atlas under the cached transform for this context.
+     *
+     * @return false if the abbreviation is not in the atlas and should be drawn another way
+     */
+    private boolean renderAtlasAbbreviation(Item item, Chemical chemical, PoseStack poseStack, ItemDisplayContext context,
+                                            MultiBufferSource buffer, int light) {
+        Matrix4f transform = ABBREVIATION_TRANSFORMS.get(context);
+        if (transform == null) {
+            return true;
+        }
+
+        if (atlas == null) {
+            // No reload has built it yet
+            return false;
+        }
+        AbbreviationAtlas.Entry entry = atlasEntries.get(item);
+        if (entry == null) {
+            entry = atlas.get(chemical.getAbbreviation());
+            if (entry == null) {
+                return chemical.getAbbreviation() == null || chemical.getAbbreviation().isEmpty();
+            }
+            atlasEntries.put(item, entry);
+        }
+
+        abbreviationPose.set(poseStack.last().pose()).mul(transform);
+        if (context == ItemDisplayContext.GROUND) {
+            abbreviationPose.rotate(Minecraft.getInstance().getEntityRenderDispatcher().cameraOrientation());
+        }
+        atlas.render(entry, abbreviationPose, buffer, light);
+        return true;
+    }
+
+    /**
+     * Abbreviations of every registered ChemLib element and compound item.
+     */
+    private static List<String> collectAbbreviations() {
+        List<String> abbreviations = new ArrayList<>();
+        for (Map<String, DeferredHolder<Item, Item>> items : List.of(ChemLibItemRegistry.ELEMENT_ITEMS, ChemLibItemRegistry.COMPOUND_ITEMS)) {
+            for (DeferredHolder<Item, Item> holder : items.values()) {
+                if (holder.get() instanceof Chemical chemical) {
+                    abbreviations.add(chemical.getAbbreviation());
+                }
+            }
+        }
+        return abbreviations;
+    }
+
     private void renderGuiAbbreviation(String abbreviation, PoseStack poseStack,
                                      MultiBufferSource buffer, int light) {
         // Render abbreviation overlay for GUI context (inventory, creative menu)
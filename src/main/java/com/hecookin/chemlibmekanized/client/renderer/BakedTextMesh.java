@@ -0,0 +1,159 @@
+package com.hecookin.chemlibmekanized.client.renderer;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import org.joml.Matrix4f;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Glyph quads for a fixed string, laid out once by {@link Font} and replayed every frame.
+ *
+ * <p>Baking records the vertices the font emits for an identity pose; rendering transforms
+ * those vertices by the current pose and writes them straight into the target buffers, so no
+ * string layout, glyph lookup or per-vertex allocation happens per frame. Glyph UVs refer to the
+ * font atlas of the current resource load, so meshes must be rebaked after every reload.</p>
+ */
+public final class BakedTextMesh {
+
+    // Per vertex: x, y, z, u, v
+    private static final int FLOATS_PER_VERTEX = 5;
+
+    private final RenderType[] renderTypes;
+    private final float[][] vertices;
+    private final int[][] colors;
+
+    private BakedTextMesh(RenderType[] renderTypes, float[][] vertices, int[][] colors) {
+        this.renderTypes = renderTypes;
+        this.vertices = vertices;
+        this.colors = colors;
+    }
+
+    /**
+     * Lay out the text once through the font, capturing its glyph quads.
+     */
+    public static BakedTextMesh bake(Font font, String text, int color, boolean dropShadow) {
+        RecordingBufferSource recorder = new RecordingBufferSource();
+        font.drawInBatch(text, 0, 0, color, dropShadow, new Matrix4f(), recorder,
+                         Font.DisplayMode.NORMAL, 0, LightTexture.FULL_BRIGHT);
+
+        int count = recorder.buffers.size();
+        RenderType[] renderTypes = new RenderType[count];
+        float[][] vertices = new float[count][];
+        int[][] colors = new int[count][];
+        int index = 0;
+        for (Map.Entry<RenderType, RecordingVertexConsumer> entry : recorder.buffers.entrySet()) {
+            renderTypes[index] = entry.getKey();
+            vertices[index] = entry.getValue().vertices();
+            colors[index] = entry.getValue().colors();
+            index++;
+        }
+        return new BakedTextMesh(renderTypes, vertices, colors);
+    }
+
+    /**
+     * Emit the baked glyphs transformed by the given pose. Allocation-free.
+     */
+    public void render(Matrix4f pose, MultiBufferSource buffer, int light) {
+        for (int segment = 0; segment < renderTypes.length; segment++) {
+            VertexConsumer consumer = buffer.getBuffer(renderTypes[segment]);
+            float[] data = vertices[segment];
+            int[] vertexColors = colors[segment];
+            for (int vertex = 0, offset = 0; vertex < vertexColors.length; vertex++, offset += FLOATS_PER_VERTEX) {
+                float x = data[offset];
+                float y = data[offset + 1];
+                float z = data[offset + 2];
+                // Inline affine transform; Matrix4f.transformPosition would allocate a Vector3f per vertex
+                consumer.addVertex(
+                        pose.m00() * x + pose.m10() * y + pose.m20() * z + pose.m30(),
+                        pose.m01() * x + pose.m11() * y + pose.m21() * z + pose.m31(),
+                        pose.m02() * x + pose.m12() * y + pose.m22() * z + pose.m32())
+                    .setColor(vertexColors[vertex])
+                    .setUv(data[offset + 3], data[offset + 4])
+                    .setLight(light);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return renderTypes.length == 0;
+    }
+
+    /**
+     * Hands out one recording consumer per render type (font texture page).
+     */
+    private static final class RecordingBufferSource implements MultiBufferSource {
+        private final Map<RenderType, RecordingVertexConsumer> buffers = new LinkedHashMap<>();
+
+        @Override
+        public VertexConsumer getBuffer(RenderType renderType) {
+            return buffers.computeIfAbsent(renderType, type -> new RecordingVertexConsumer());
+        }
+    }
+
+    /**
+     * Keeps position, color and texture coordinates; light, overlay and normals are supplied at render time.
+     */
+    private static final class RecordingVertexConsumer implements VertexConsumer {
+        private float[] vertices = new float[FLOATS_PER_VERTEX * 16];
+        private int[] colors = new int[16];
+        private int vertexCount = 0;
+
+        @Override
+        public VertexConsumer addVertex(float x, float y, float z) {
+            if (vertexCount == colors.length) {
+                colors = Arrays.copyOf(colors, colors.length * 2);
+                vertices = Arrays.copyOf(vertices, vertices.length * 2);
+            }
+            int offset = vertexCount * FLOATS_PER_VERTEX;
+            vertices[offset] = x;
+            vertices[offset + 1] = y;
+            vertices[offset + 2] = z;
+            colors[vertexCount] = 0xFFFFFFFF;
+            vertexCount++;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setColor(int red, int green, int blue, int alpha) {
+            colors[vertexCount - 1] = (alpha & 0xFF) << 24 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv(float u, float v) {
+            int offset = (vertexCount - 1) * FLOATS_PER_VERTEX;
+            vertices[offset + 3] = u;
+            vertices[offset + 4] = v;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv1(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv2(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setNormal(float normalX, float normalY, float normalZ) {
+            return this;
+        }
+
+        float[] vertices() {
+            return Arrays.copyOf(vertices, vertexCount * FLOATS_PER_VERTEX);
+        }
+
+        int[] colors() {
+            return Arrays.copyOf(colors, vertexCount);
+        }
+    }
+}
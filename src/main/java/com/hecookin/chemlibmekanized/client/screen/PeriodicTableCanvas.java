@@ -0,0 +1,148 @@
+package com.hecookin.chemlibmekanized.client.screen;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.ElementData;
+import com.mojang.blaze3d.pipeline.TextureTarget;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexSorting;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fStack;
+
+/**
+ * The periodic table background with its per-element overlays (matter state bar and
+ * "Processing Available" marker), composed once into an off-screen target and blitted
+ * as a single quad every frame.
+ *
+ * <p>Shared by every {@link PeriodicTableScreen}. The target is sized to the table at the current
+ * GUI scale and recomposed when the scale changes or after a resource reload.
+ * Only used on the render thread.</p>
+ */
+final class PeriodicTableCanvas {
+
+    static final PeriodicTableCanvas INSTANCE = new PeriodicTableCanvas();
+
+    private static final int SOLID_COLOR = 0xFFB4B4B4;
+    private static final int LIQUID_COLOR = 0xFF3F76E4;
+    private static final int GAS_COLOR = 0xFFE8E8FF;
+    private static final int PROCESSING_COLOR = 0xFF00FF00;
+
+    private TextureTarget target;
+    private double composedScale;
+
+    private PeriodicTableCanvas() {
+    }
+
+    /**
+     * Draw the cached table with its top-left corner at the given GUI position, composing it first if needed.
+     */
+    void draw(GuiGraphics graphics, int x, int y) {
+        // Submit anything already batched (e.g. the screen background) first: composing shares the
+        // client buffer source, and our direct draw must land on top of it
+        graphics.flush();
+        double guiScale = Minecraft.getInstance().getWindow().getGuiScale();
+        if (target == null || composedScale != guiScale) {
+            compose(guiScale);
+        }
+
+        RenderSystem.setShader(GameRenderer::getPositionTexShader);
+        RenderSystem.setShaderTexture(0, target.getColorTextureId());
+        RenderSystem.enableBlend();
+        RenderSystem.defaultBlendFunc();
+        Matrix4f pose = graphics.pose().last().pose();
+        int x1 = x + PeriodicTableScreen.TABLE_WIDTH;
+        int y1 = y + PeriodicTableScreen.TABLE_HEIGHT;
+        // Render target rows start at the bottom, so v runs from 1 at the top to 0
+        BufferBuilder builder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+        builder.addVertex(pose, x, y, 0).setUv(0, 1);
+        builder.addVertex(pose, x, y1, 0).setUv(0, 0);
+        builder.addVertex(pose, x1, y1, 0).setUv(1, 0);
+        builder.addVertex(pose, x1, y, 0).setUv(1, 1);
+        BufferUploader.drawWithShader(builder.buildOrThrow());
+        RenderSystem.disableBlend();
+    }
+
+    /**
+     * Drop the composed image; it is rebuilt on the next draw. Called on resource reload.
+     */
+    void invalidate() {
+        if (target != null) {
+            target.destroyBuffers();
+            target = null;
+        }
+    }
+
+    private void compose(double guiScale) {
+        invalidate();
+        long start = System.nanoTime();
+        Minecraft minecraft = Minecraft.getInstance();
+        int width = (int) Math.ceil(PeriodicTableScreen.TABLE_WIDTH * guiScale);
+        int height = (int) Math.ceil(PeriodicTableScreen.TABLE_HEIGHT * guiScale);
+
+        target = new TextureTarget(width, height, false, Minecraft.ON_OSX);
+        target.setClearColor(0, 0, 0, 0);
+        target.clear(Minecraft.ON_OSX);
+        target.bindWrite(true);
+
+        // Same projection as the GUI, but covering only the table
+        RenderSystem.backupProjectionMatrix();
+        RenderSystem.setProjectionMatrix(new Matrix4f().setOrtho(0, PeriodicTableScreen.TABLE_WIDTH,
+            PeriodicTableScreen.TABLE_HEIGHT, 0, 1000, 21000), VertexSorting.ORTHOGRAPHIC_Z);
+        Matrix4fStack modelView = RenderSystem.getModelViewStack();
+        modelView.pushMatrix();
+        modelView.translation(0, 0, -11000);
+        RenderSystem.applyModelViewMatrix();
+
+        GuiGraphics graphics = new GuiGraphics(minecraft, minecraft.renderBuffers().bufferSource());
+        graphics.blit(PeriodicTableScreen.PERIODIC_TABLE, 0, 0, 0, 0,
+            PeriodicTableScreen.TABLE_WIDTH, PeriodicTableScreen.TABLE_HEIGHT,
+            PeriodicTableScreen.TEXTURE_WIDTH, PeriodicTableScreen.TEXTURE_HEIGHT);
+        drawOverlays(graphics, PeriodicTableLayout.get());
+        graphics.flush();
+
+        modelView.popMatrix();
+        RenderSystem.applyModelViewMatrix();
+        RenderSystem.restoreProjectionMatrix();
+        minecraft.getMainRenderTarget().bindWrite(true);
+
+        composedScale = guiScale;
+        ChemlibMekanized.LOGGER.debug("Composed periodic table canvas {}x{} in {} us",
+            width, height, (System.nanoTime() - start) / 1000L);
+    }
+
+    private static void drawOverlays(GuiGraphics graphics, PeriodicTableLayout layout) {
+        for (int row = 0; row < PeriodicTableLayout.GRID_ROWS; row++) {
+            for (int column = 0; column < PeriodicTableLayout.GRID_COLUMNS; column++) {
+                ElementData element = layout.elementAt(row * PeriodicTableLayout.GRID_COLUMNS + column);
+                if (element == null) {
+                    continue;
+                }
+
+                int x0 = (int) Math.round(column * PeriodicTableScreen.ELEMENT_WIDTH);
+                int y0 = (int) Math.round(row * PeriodicTableScreen.ELEMENT_HEIGHT);
+                int x1 = (int) Math.round((column + 1) * PeriodicTableScreen.ELEMENT_WIDTH);
+                int y1 = (int) Math.round((row + 1) * PeriodicTableScreen.ELEMENT_HEIGHT);
+
+                // Matter state bar along the bottom edge of the cell
+                int stateColor = switch (element.matterState) {
+                    case SOLID -> SOLID_COLOR;
+                    case LIQUID -> LIQUID_COLOR;
+                    case GAS -> GAS_COLOR;
+                };
+                graphics.fill(x0 + 2, y1 - 3, x1 - 2, y1 - 2, stateColor);
+
+                // Processing available marker in the top-left corner
+                if (element.hasItem) {
+                    graphics.fill(x0 + 2, y0 + 2, x0 + 4, y0 + 4, PROCESSING_COLOR);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.hecookin.chemlibmekanized.client.screen;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.ElementData;
+import net.minecraft.network.chat.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client-side cache of the periodic table: which element sits in each of the table's cells,
+ * and each cell's tooltip lines.
+ * Built once from the shared {@link ChemLibDataset} during client setup, so opening
+ * {@link PeriodicTableScreen} does no I/O, parsing or per-element work.
+ */
+public final class PeriodicTableLayout {
+
+    // Table cells: 18 groups by 7 periods, then the lanthanide and actinide rows
+    public static final int GRID_COLUMNS = 18;
+    public static final int GRID_ROWS = 9;
+
+    // Element shown in each cell, indexed by row * GRID_COLUMNS + column
+    private final ElementData[] grid = new ElementData[GRID_COLUMNS * GRID_ROWS];
+    // Tooltip lines for each cell, empty for empty cells
+    private final List<List<Component>> tooltips;
+
+    private PeriodicTableLayout(ChemLibDataset dataset) {
+        // Main area, periods 1-7
+        for (ElementData element : dataset.elements()) {
+            int period = element.period;
+            int group = element.group;
+
+            // Special handling for lanthanides and actinides
+            if ((period == 6 || period == 7) && group == 3 && element.atomicNumber > 57) {
+                continue; // These are shown in the bottom rows
+            }
+            if (group < 1 || group > GRID_COLUMNS || period < 1 || period > 7) {
+                continue;
+            }
+
+            int cell = (period - 1) * GRID_COLUMNS + (group - 1);
+            if (grid[cell] == null) {
+                grid[cell] = element;
+            }
+        }
+
+        // Lanthanides (row 8, La 57 to Lu 71) and actinides (row 9, Ac 89 to Lr 103)
+        for (int column = 0; column <= 14; column++) {
+            grid[7 * GRID_COLUMNS + column] = dataset.element(57 + column);
+            grid[8 * GRID_COLUMNS + column] = dataset.element(89 + column);
+        }
+
+        List<List<Component>> tooltips = new ArrayList<>(grid.length);
+        for (ElementData element : grid) {
+            tooltips.add(element != null ? createElementTooltip(element) : List.of());
+        }
+        this.tooltips = List.copyOf(tooltips);
+    }
+
+    private static List<Component> createElementTooltip(ElementData element) {
+        // Create tooltip text
+        List<Component> tooltip = new ArrayList<>();
+        int elementColor = element.argb & 0xFFFFFF;
+        tooltip.add(Component.literal(element.name)
+            .withStyle(style -> style.withColor(elementColor)));
+        tooltip.add(Component.literal("Symbol: " + element.abbreviation));
+        tooltip.add(Component.literal("Atomic Number: " + element.atomicNumber));
+        tooltip.add(Component.literal("Group: " + element.group + ", Period: " + element.period));
+
+        // Add Mekanism integration info
+        tooltip.add(Component.literal("Matter State: " + element.matterState.getName()));
+
+        // Check if we have this element registered as a chemical
+        if (element.hasItem) {
+            tooltip.add(Component.literal("Processing Available").withStyle(style -> style.withColor(0x00FF00)));
+        }
+        return List.copyOf(tooltip);
+    }
+
+    /**
+     * Get the shared layout, building it on first call.
+     */
+    public static PeriodicTableLayout get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return the element in this cell, or null for an empty cell
+     */
+    public ElementData elementAt(int cell) {
+        return grid[cell];
+    }
+
+    /**
+     * @return the immutable tooltip lines for this cell, empty for an empty cell
+     */
+    public List<Component> tooltipAt(int cell) {
+        return tooltips.get(cell);
+    }
+
+    private static final class Holder {
+        private static final PeriodicTableLayout INSTANCE = build();
+
+        private static PeriodicTableLayout build() {
+            PeriodicTableLayout layout = new PeriodicTableLayout(ChemLibDataset.get());
+            int filled = 0;
+            for (ElementData element : layout.grid) {
+                if (element != null) {
+                    filled++;
+                }
+            }
+            ChemlibMekanized.LOGGER.debug("Built periodic table layout with {} elements", filled);
+            return layout;
+        }
+    }
+}
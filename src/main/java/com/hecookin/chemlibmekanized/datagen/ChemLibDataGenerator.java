@@ -29,6 +29,8 @@ public class ChemLibDataGenerator {
 
         generator.addProvider(event.includeClient(), new ChemLibSpriteSourceProvider(packOutput, lookupProvider, existingFileHelper));
 
+        generator.addProvider(event.includeServer(), new ChemLibRecipeProvider(packOutput));
+
         ChemlibMekanized.LOGGER.info("ChemLib data generation providers registered");
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.hecookin.chemlibmekanized.datagen;
 
 import com.hecookin.chemlibmekanized.ChemlibMekanized;
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
 import com.hecookin.chemlibmekanized.registry.ChemLibItemRegistry;
 import net.minecraft.data.PackOutput;
 import net.minecraft.resources.ResourceLocation;
@@ -35,7 +36,7 @@ public class ChemLibItemModelProvider extends ItemModelProvider {
     }
 
     private void generateElementModels() {
-        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements();
+        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataset.get().elements();
 
         for (ChemLibDataExtractor.ElementData element : elements) {
             DeferredHolder<Item, Item> itemHolder = ChemLibItemRegistry.ELEMENT_ITEMS.get(element.name);
@@ -46,7 +47,7 @@ public class ChemLibItemModelProvider extends ItemModelProvider {
     }
 
     private void generateCompoundModels() {
-        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds();
+        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataset.get().compounds();
 
         for (ChemLibDataExtractor.CompoundData compound : compounds) {
             DeferredHolder<Item, Item> itemHolder = ChemLibItemRegistry.COMPOUND_ITEMS.get(compound.name);
@@ -57,22 +58,14 @@ public class ChemLibItemModelProvider extends ItemModelProvider {
     }
 
     private void generateLayeredElementModel(ChemLibDataExtractor.ElementData element, Item item) {
-        String matterState = element.matterState;
-        String parentModel = "chemlibmekanized:item/element_" + matterState + "_model";
+        String parentModel = "chemlibmekanized:item/" + element.modelTemplate.getModelName();
 
         ItemModelBuilder model = withExistingParent(element.name, parentModel);
 
     }
 
     private void generateLayeredCompoundModel(ChemLibDataExtractor.CompoundData compound, Item item) {
-        String matterState = compound.matterState;
-        String parentModel;
-
-        if ("solid".equals(matterState) && compound.hasItem) {
-            parentModel = "chemlibmekanized:item/compound_dust_model";
-        } else {
-            parentModel = "chemlibmekanized:item/compound_" + matterState + "_model";
-        }
+        String parentModel = "chemlibmekanized:item/" + compound.modelTemplate.getModelName();
 
         ItemModelBuilder model = withExistingParent(compound.name, parentModel);
 
@@ -2,6 +2,7 @@ package com.hecookin.chemlibmekanized.datagen;
 
 import com.hecookin.chemlibmekanized.ChemlibMekanized;
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
 import com.hecookin.chemlibmekanized.registry.ChemLibFluidRegistry;
 import net.minecraft.data.PackOutput;
 import net.neoforged.neoforge.common.data.LanguageProvider;
@@ -38,7 +39,7 @@ public class ChemLibLanguageProvider extends LanguageProvider {
     }
 
     private void addElementTranslations() {
-        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements();
+        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataset.get().elements();
 
         for (ChemLibDataExtractor.ElementData element : elements) {
             String translationKey = "item." + ChemlibMekanized.MODID + "." + element.name;
@@ -49,7 +50,7 @@ public class ChemLibLanguageProvider extends LanguageProvider {
     }
 
     private void addCompoundTranslations() {
-        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds();
+        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataset.get().compounds();
 
         for (ChemLibDataExtractor.CompoundData compound : compounds) {
             String translationKey = "item." + ChemlibMekanized.MODID + "." + compound.name;
@@ -60,7 +61,7 @@ public class ChemLibLanguageProvider extends LanguageProvider {
     }
 
     private void addMetalItemTranslations() {
-        List<ChemLibDataExtractor.ElementData> metals = ChemLibDataExtractor.extractMetals();
+        List<ChemLibDataExtractor.ElementData> metals = ChemLibDataset.get().metals();
 
         for (ChemLibDataExtractor.ElementData metal : metals) {
             String elementName = formatChemicalName(metal.name);
@@ -0,0 +1,291 @@
+package com.hecookin.chemlibmekanized.datagen;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.extraction.MetalMaterials;
+import com.hecookin.chemlibmekanized.recipe.RecipeBundleLoader;
+import com.hecookin.chemlibmekanized.registry.ChemLibFluidRegistry;
+import net.minecraft.Util;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.PackOutput;
+import net.minecraft.resources.ResourceLocation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the processing-chain recipes that follow mechanically from the dataset:
+ * metal dissolution with each acid, slurry washing and crystallizing, crystal smelting and blasting,
+ * ingot/nugget crafting, and rotary condensentrator recipes for the liquefied gases.
+ *
+ * <p>Recipes are derived per material in parallel and written through {@link DataProvider#saveStable}, so the
+ * {@link CachedOutput} hash cache skips files whose content has not changed. Output is sorted by recipe id
+ * and every value comes from the dataset, so regeneration is reproducible.
+ * Hand-authored recipes (reactions, obtainment, alternatives, one-off conversions) stay in src/main/resources.</p>
+ *
+ * <p>With {@link #BUNDLES_PROPERTY} set, recipes are written instead as one JSON-lines bundle per recipe type
+ * under recipe_bundle/, loaded by {@link RecipeBundleLoader}.</p>
+ */
+public class ChemLibRecipeProvider implements DataProvider {
+
+    /**
+     * System property selecting bundle output (-Pchemlib_recipe_bundles on the data run).
+     */
+    public static final String BUNDLES_PROPERTY = "chemlibmekanized.recipeBundles";
+
+    private static final Gson BUNDLE_GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    // Dissolution acids: recipe id suffix, acid chemical and amount used per item
+    private enum Acid {
+        HCL("hcl", "mekanism:hydrogen_chloride", 10),
+        HYDROCHLORIC("hydrochloric", "chemlibmekanized:hydrochloric_acid", 10),
+        NITRIC("nitric", "chemlibmekanized:nitric_acid", 10),
+        SULFURIC("sulfuric", "mekanism:sulfuric_acid", 20);
+
+        private final String suffix;
+        private final String chemical;
+        private final int amount;
+
+        Acid(String suffix, String chemical, int amount) {
+            this.suffix = suffix;
+            this.chemical = chemical;
+            this.amount = amount;
+        }
+    }
+
+    // One element item dissolves into this much dirty slurry
+    private static final int DISSOLUTION_OUTPUT = 200;
+    // 9 elements = 1800mB clean slurry = 1 crystal = 1 ingot
+    private static final int CRYSTALLIZING_INPUT = 1800;
+    private static final int SMELTING_TIME = 200;
+    private static final int BLASTING_TIME = 100;
+    private static final float CRYSTAL_EXPERIENCE = 0.7F;
+
+    private final PackOutput.PathProvider recipePath;
+    private final PackOutput.PathProvider bundlePath;
+    private final boolean bundles;
+
+    public ChemLibRecipeProvider(PackOutput output) {
+        this.recipePath = output.createPathProvider(PackOutput.Target.DATA_PACK, "recipe");
+        this.bundlePath = output.createPathProvider(PackOutput.Target.DATA_PACK, RecipeBundleLoader.DIRECTORY);
+        this.bundles = Boolean.getBoolean(BUNDLES_PROPERTY);
+    }
+
+    private record Recipe(String path, JsonObject json) {
+    }
+
+    @Override
+    public CompletableFuture<?> run(CachedOutput output) {
+        long start = System.nanoTime();
+        Map<String, JsonObject> recipes = buildRecipes();
+        ChemlibMekanized.LOGGER.info("Derived {} ChemLib recipes in {} ms", recipes.size(), (System.nanoTime() - start) / 1_000_000L);
+
+        if (bundles) {
+            return writeBundles(output, recipes);
+        }
+        // saveStable hashes and writes on the background executor, skipping files the cache already has
+        return CompletableFuture.allOf(recipes.entrySet().stream()
+            .map(entry -> DataProvider.saveStable(output, entry.getValue(),
+                recipePath.json(ResourceLocation.fromNamespaceAndPath(ChemlibMekanized.MODID, entry.getKey()))))
+            .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Write one bundle per recipe type (the first path segment, e.g. "washing"), lines sorted by recipe id.
+     */
+    @SuppressWarnings("deprecation") // DataProvider hashes with SHA-1 too
+    private CompletableFuture<?> writeBundles(CachedOutput output, Map<String, JsonObject> recipes) {
+        Map<String, StringBuilder> bundleLines = new TreeMap<>();
+        recipes.forEach((path, json) -> {
+            JsonObject line = new JsonObject();
+            line.addProperty("id", path);
+            line.add("recipe", json);
+            String type = path.substring(0, path.indexOf('/'));
+            bundleLines.computeIfAbsent(type, t -> new StringBuilder()).append(BUNDLE_GSON.toJson(line)).append('\n');
+        });
+
+        return CompletableFuture.allOf(bundleLines.entrySet().stream()
+            .map(entry -> CompletableFuture.runAsync(() -> {
+                byte[] bytes = entry.getValue().toString().getBytes(StandardCharsets.UTF_8);
+                Path path = bundlePath.file(ResourceLocation.fromNamespaceAndPath(ChemlibMekanized.MODID, entry.getKey()), "jsonl");
+                try {
+                    output.writeIfNeeded(path, bytes, Hashing.sha1().hashBytes(bytes));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to write recipe bundle " + path, e);
+                }
+            }, Util.backgroundExecutor()))
+            .toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public String getName() {
+        return "ChemLib Recipes";
+    }
+
+    /**
+     * @return every generated recipe by path under recipe/, sorted
+     */
+    static Map<String, JsonObject> buildRecipes() {
+        List<MetalMaterials.Material> crystals = MetalMaterials.get().crystals();
+        Set<String> crystalNames = crystals.stream()
+            .map(MetalMaterials.Material::name)
+            .collect(Collectors.toUnmodifiableSet());
+        // Element slurries under their own name; aliases and non-element materials have no element item to dissolve
+        List<MetalMaterials.Material> elementSlurries = MetalMaterials.get().slurries().stream()
+            .filter(material -> material.element() != null && material.name().equals(material.element().name))
+            .toList();
+
+        List<ChemLibFluidRegistry.ChemLibFluidEntry> gasFluids = ChemLibFluidRegistry.getGasFluids();
+
+        Stream<Recipe> crystalRecipes = crystals.parallelStream()
+            .flatMap(material -> crystalRecipes(material.name()).stream());
+        Stream<Recipe> slurryRecipes = elementSlurries.parallelStream()
+            .flatMap(material -> slurryRecipes(material.name(), crystalNames.contains(material.name())).stream());
+        Stream<Recipe> rotaryRecipes = gasFluids.parallelStream()
+            .map(entry -> rotary(entry.name().substring(ChemLibFluidRegistry.GAS_FLUID_PREFIX.length()), entry.name()));
+
+        return Stream.concat(Stream.concat(crystalRecipes, slurryRecipes), rotaryRecipes)
+            .collect(Collectors.toMap(Recipe::path, Recipe::json, (first, second) -> {
+                throw new IllegalStateException("Two generated recipes share an id: " + first);
+            }, TreeMap::new));
+    }
+
+    private static List<Recipe> crystalRecipes(String metal) {
+        return List.of(
+            cooking("smelting/" + metal + "_crystal_smelting", "minecraft:smelting", metal, SMELTING_TIME),
+            cooking("blasting/" + metal + "_crystal_blasting", "minecraft:blasting", metal, BLASTING_TIME),
+            ingotToNuggets(metal),
+            nuggetsToIngot(metal));
+    }
+
+    private static List<Recipe> slurryRecipes(String element, boolean hasCrystal) {
+        List<Recipe> recipes = new ArrayList<>();
+        for (Acid acid : Acid.values()) {
+            recipes.add(dissolution(element, acid));
+        }
+        recipes.add(washing(element));
+        // Non-solid elements (mercury) have a slurry but no crystal to crystallize into
+        if (hasCrystal) {
+            recipes.add(crystallizing(element));
+        }
+        return recipes;
+    }
+
+    private static Recipe dissolution(String metal, Acid acid) {
+        JsonObject json = type("mekanism:dissolution");
+        JsonObject itemInput = item(id(metal));
+        itemInput.addProperty("count", 1);
+        json.add("item_input", itemInput);
+        json.add("chemical_input", input("chemical", acid.chemical, acid.amount));
+        json.add("output", stack(id("dirty_" + metal), "amount", DISSOLUTION_OUTPUT));
+        json.addProperty("per_tick_usage", false);
+        return new Recipe("dissolution/metals/" + metal + "_dissolution_" + acid.suffix, json);
+    }
+
+    private static Recipe washing(String metal) {
+        JsonObject json = type("mekanism:washing");
+        json.add("chemical_input", input("chemical", id("dirty_" + metal), 1));
+        JsonObject fluidInput = new JsonObject();
+        fluidInput.addProperty("amount", 5);
+        fluidInput.addProperty("tag", "minecraft:water");
+        json.add("fluid_input", fluidInput);
+        json.add("output", stack(id("clean_" + metal), "amount", 1));
+        return new Recipe("washing/wash_" + metal, json);
+    }
+
+    private static Recipe crystallizing(String metal) {
+        JsonObject json = type("mekanism:crystallizing");
+        json.add("input", input("chemical", id("clean_" + metal), CRYSTALLIZING_INPUT));
+        json.add("output", stack(id(metal + "_crystal"), "count", 1));
+        return new Recipe("crystallizing/crystallize_" + metal, json);
+    }
+
+    private static Recipe cooking(String path, String type, String metal, int cookingTime) {
+        JsonObject json = type(type);
+        json.addProperty("category", "misc");
+        json.addProperty("cookingtime", cookingTime);
+        json.addProperty("experience", CRYSTAL_EXPERIENCE);
+        json.add("ingredient", item(id(metal + "_crystal")));
+        json.add("result", stack(id(metal + "_ingot"), "count", 1));
+        return new Recipe(path, json);
+    }
+
+    private static Recipe ingotToNuggets(String metal) {
+        JsonObject json = type("minecraft:crafting_shapeless");
+        JsonArray ingredients = new JsonArray();
+        ingredients.add(item(id(metal + "_ingot")));
+        json.add("ingredients", ingredients);
+        json.add("result", stack(id(metal + "_nugget"), "count", 9));
+        return new Recipe("crafting/ingot_to_nuggets_" + metal, json);
+    }
+
+    private static Recipe nuggetsToIngot(String metal) {
+        JsonObject json = type("minecraft:crafting_shaped");
+        JsonArray pattern = new JsonArray();
+        for (int row = 0; row < 3; row++) {
+            pattern.add("NNN");
+        }
+        json.add("pattern", pattern);
+        JsonObject key = new JsonObject();
+        key.add("N", item(id(metal + "_nugget")));
+        json.add("key", key);
+        json.add("result", stack(id(metal + "_ingot"), "count", 1));
+        return new Recipe("crafting/nuggets_to_ingot_" + metal, json);
+    }
+
+    private static Recipe rotary(String gas, String fluid) {
+        JsonObject json = type("mekanism:rotary");
+        json.add("chemical_input", input("chemical", id(gas), 1));
+        json.add("chemical_output", stack(id(gas), "amount", 1));
+        json.add("fluid_input", input("fluid", id(fluid), 1));
+        json.add("fluid_output", stack(id(fluid), "amount", 1));
+        return new Recipe("rotary/" + gas, json);
+    }
+
+    private static JsonObject type(String type) {
+        JsonObject json = new JsonObject();
+        json.addProperty("type", type);
+        return json;
+    }
+
+    private static JsonObject item(String id) {
+        JsonObject json = new JsonObject();
+        json.addProperty("item", id);
+        return json;
+    }
+
+    // An ingredient with an amount, keyed by what it is ("chemical" or "fluid")
+    private static JsonObject input(String kind, String id, int amount) {
+        JsonObject json = new JsonObject();
+        json.addProperty("amount", amount);
+        json.addProperty(kind, id);
+        return json;
+    }
+
+    // A result with a size, keyed "count" for items and "amount" for chemicals and fluids
+    private static JsonObject stack(String id, String sizeKey, int size) {
+        JsonObject json = new JsonObject();
+        json.addProperty(sizeKey, size);
+        json.addProperty("id", id);
+        return json;
+    }
+
+    private static String id(String path) {
+        return ChemlibMekanized.MODID + ":" + path;
+    }
+}
@@ -1,43 +1,68 @@
 package com.hecookin.chemlibmekanized.extraction;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.api.MatterState;
+import com.hecookin.chemlibmekanized.api.MetalType;
+import com.hecookin.chemlibmekanized.api.ModelTemplate;
 import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Reads ChemLib's elements.json and compounds.json with a streaming {@link JsonReader},
+ * filling the data records directly without building a JSON tree.
+ */
 public class ChemLibDataExtractor {
-    private static final Gson GSON = new Gson();
-    private static final String CHEMLIB_PATH = "/home/keroppi/Development/Minecraft/ChemLib/src/main/resources/data/chemlib/";
+    /**
+     * System property pointing at a ChemLib data directory (containing elements.json and compounds.json).
+     * When set, the JSON files are parsed instead of the bundled binary dataset, for development overrides.
+     */
+    public static final String DATA_DIR_PROPERTY = "chemlibmekanized.chemlibDataDir";
+
+    /**
+     * Color used when ChemLib's color is missing or unreadable.
+     */
+    public static final int DEFAULT_ARGB = 0xFFFFFFFF;
 
     public static class ElementData {
         public final String name;
         public final int atomicNumber;
         public final String abbreviation;
-        public final String group;
-        public final String period;
-        public final String matterState;
-        public final String metalType;
+        public final int group;
+        public final int period;
+        public final MatterState matterState;
+        public final MetalType metalType;
         public final boolean artificial;
         public final boolean hasItem;
-        public final String color;
+        /**
+         * Opaque ARGB color, validated when the data was loaded.
+         */
+        public final int argb;
+        /**
+         * False when ChemLib's color was missing or malformed and {@link #argb} is the white fallback.
+         */
+        public final boolean colorValid;
         public final FluidProperties fluidProperties;
         public final List<EffectData> effects;
-
-        public ElementData(String name, int atomicNumber, String abbreviation, String group,
-                          String period, String matterState, String metalType, boolean artificial,
-                          boolean hasItem, String color, FluidProperties fluidProperties,
+        /**
+         * Item template, derived from the matter state when the data is loaded.
+         */
+        public final ModelTemplate modelTemplate;
+
+        public ElementData(String name, int atomicNumber, String abbreviation, int group,
+                          int period, MatterState matterState, MetalType metalType, boolean artificial,
+                          boolean hasItem, int argb, boolean colorValid, FluidProperties fluidProperties,
                           List<EffectData> effects) {
             this.name = name;
             this.atomicNumber = atomicNumber;
@@ -48,33 +73,43 @@ public class ChemLibDataExtractor {
             this.metalType = metalType;
             this.artificial = artificial;
             this.hasItem = hasItem;
-            this.color = color;
+            this.argb = argb;
+            this.colorValid = colorValid;
             this.fluidProperties = fluidProperties;
             this.effects = effects;
+            this.modelTemplate = ModelTemplate.forElement(matterState);
         }
     }
 
     public static class CompoundData {
         public final String name;
-        public final String matterState;
+        public final MatterState matterState;
         public final boolean hasItem;
         public final String description;
-        public final String color;
+        /**
+         * Opaque ARGB color, validated when the data was loaded.
+         */
+        public final int argb;
         public final FluidProperties fluidProperties;
         public final List<ComponentData> components;
         public final List<EffectData> effects;
+        /**
+         * Item template, derived from the matter state and has_item when the data is loaded.
+         */
+        public final ModelTemplate modelTemplate;
 
-        public CompoundData(String name, String matterState, boolean hasItem, String description,
-                           String color, FluidProperties fluidProperties, List<ComponentData> components,
+        public CompoundData(String name, MatterState matterState, boolean hasItem, String description,
+                           int argb, FluidProperties fluidProperties, List<ComponentData> components,
                            List<EffectData> effects) {
             this.name = name;
             this.matterState = matterState;
             this.hasItem = hasItem;
             this.description = description;
-            this.color = color;
+            this.argb = argb;
             this.fluidProperties = fluidProperties;
             this.components = components;
             this.effects = effects;
+            this.modelTemplate = ModelTemplate.forCompound(matterState, hasItem);
         }
     }
 
@@ -142,98 +177,103 @@ public class ChemLibDataExtractor {
         }
     }
 
+    /**
+     * Get the JSON override directory configured through {@link #DATA_DIR_PROPERTY}, if any.
+     */
+    public static Optional<Path> getJsonOverrideDir() {
+        String dir = System.getProperty(DATA_DIR_PROPERTY);
+        if (dir == null || dir.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(Paths.get(dir));
+    }
+
+    /**
+     * Parse elements.json from the JSON override directory.
+     * Prefer {@link ChemLibDataset#get()}, which loads once and shares the result.
+     */
     public static List<ElementData> extractElements() {
-        List<ElementData> elements = new ArrayList<>();
-        Path elementsPath = Paths.get(CHEMLIB_PATH + "elements.json");
-
-        try (FileReader reader = new FileReader(elementsPath.toFile())) {
-            JsonObject root = GSON.fromJson(reader, JsonObject.class);
-            JsonArray elementsArray = root.getAsJsonArray("elements");
-
-            for (JsonElement element : elementsArray) {
-                JsonObject elementObj = element.getAsJsonObject();
-
-                String name = elementObj.get("name").getAsString();
-                int atomicNumber = elementObj.get("atomic_number").getAsInt();
-                String abbreviation = elementObj.get("abbreviation").getAsString();
-                String group = elementObj.get("group").getAsString();
-                String period = elementObj.get("period").getAsString();
-                String matterState = elementObj.get("matter_state").getAsString();
-                String metalType = elementObj.get("metal_type").getAsString();
-                boolean artificial = elementObj.has("artificial") && elementObj.get("artificial").getAsBoolean();
-                // Force hasItem to true for all elements - we want all elements to be items in our mod
-                boolean hasItem = true; // elementObj.has("has_item") && elementObj.get("has_item").getAsBoolean();
-                String color = elementObj.get("color").getAsString();
-
-                FluidProperties fluidProps = null;
-                if (elementObj.has("fluid_properties")) {
-                    JsonObject fluidObj = elementObj.getAsJsonObject("fluid_properties");
-                    fluidProps = new FluidProperties(
-                        fluidObj.get("density").getAsInt(),
-                        fluidObj.get("light_level").getAsInt(),
-                        fluidObj.get("viscosity").getAsInt(),
-                        fluidObj.get("temperature").getAsInt(),
-                        fluidObj.get("motion_scale").getAsDouble(),
-                        fluidObj.get("fall_distance_modifier").getAsDouble(),
-                        fluidObj.get("path_type").getAsString(),
-                        fluidObj.get("push_entity").getAsBoolean(),
-                        fluidObj.get("can_swim").getAsBoolean(),
-                        fluidObj.get("can_drown").getAsBoolean(),
-                        fluidObj.get("can_hydrate").getAsBoolean(),
-                        fluidObj.get("can_extinguish").getAsBoolean(),
-                        fluidObj.get("supports_boating").getAsBoolean(),
-                        fluidObj.get("can_convert_to_source").getAsBoolean()
-                    );
-                }
+        return getJsonOverrideDir().map(ChemLibDataExtractor::extractElements).orElseGet(() -> {
+            ChemlibMekanized.LOGGER.error("No ChemLib JSON directory configured - set -D{}", DATA_DIR_PROPERTY);
+            return new ArrayList<>();
+        });
+    }
 
-                List<EffectData> effects = new ArrayList<>();
-                if (elementObj.has("effect")) {
-                    JsonArray effectsArray = elementObj.getAsJsonArray("effect");
-                    for (JsonElement effectElement : effectsArray) {
-                        JsonObject effectObj = effectElement.getAsJsonObject();
-                        effects.add(new EffectData(
-                            effectObj.get("location").getAsString(),
-                            Integer.parseInt(effectObj.get("duration").getAsString()),
-                            effectObj.get("amplifier").getAsInt()
-                        ));
+    /**
+     * Parse elements.json from a ChemLib data directory.
+     */
+    public static List<ElementData> extractElements(Path dataDir) {
+        List<ElementData> elements = new ArrayList<>();
+        Path elementsPath = dataDir.resolve("elements.json");
+
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(elementsPath, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("elements".equals(reader.nextName())) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        elements.add(readElement(reader));
                     }
-                }
-
-                elements.add(new ElementData(name, atomicNumber, abbreviation, group, period,
-                                           matterState, metalType, artificial, hasItem, color,
-                                           fluidProps, effects));
-
-                // Log heavy/rare elements for debugging
-                if (atomicNumber >= 70 && atomicNumber <= 103) {
-                    ChemlibMekanized.LOGGER.info("Loaded element: {} (#{}) - metal_type: {}, has_item: {}, artificial: {}",
-                        name, atomicNumber, metalType, hasItem, artificial);
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
                 }
             }
-        } catch (IOException e) {
+            reader.endObject();
+        } catch (IOException | IllegalStateException e) {
             ChemlibMekanized.LOGGER.error("Failed to read elements.json", e);
         }
 
         return elements;
     }
 
+    private static ElementData readElement(JsonReader reader) throws IOException {
+        String name = null;
+        int atomicNumber = 0;
+        String abbreviation = null;
+        String group = null;
+        String period = null;
+        String matterState = null;
+        String metalType = null;
+        boolean artificial = false;
+        String color = null;
+        FluidProperties fluidProps = null;
+        List<EffectData> effects = List.of();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "atomic_number" -> atomicNumber = reader.nextInt();
+                case "abbreviation" -> abbreviation = reader.nextString();
+                case "group" -> group = reader.nextString();
+                case "period" -> period = reader.nextString();
+                case "matter_state" -> matterState = reader.nextString();
+                case "metal_type" -> metalType = reader.nextString();
+                case "artificial" -> artificial = reader.nextBoolean();
+                case "color" -> color = reader.nextString();
+                case "fluid_properties" -> fluidProps = readFluidProperties(reader);
+                case "effect" -> effects = readEffects(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        // Force hasItem to true for all elements - we want all elements to be items in our mod
+        boolean hasItem = true;
+        return new ElementData(name, atomicNumber, abbreviation,
+                               parsePeriodicTableNumber(name, "group", group),
+                               parsePeriodicTableNumber(name, "period", period),
+                               parseMatterState(name, matterState), parseMetalType(name, metalType),
+                               artificial, hasItem, parseColor(name, color), isValidColor(color), fluidProps, effects);
+    }
+
     /**
      * Extract metallic elements and metalloids from ChemLib data.
      * @return List of metallic elements and metalloids (solid metals and metalloids only)
      */
     public static List<ElementData> extractMetals() {
-        List<ElementData> allElements = extractElements();
-        List<ElementData> metals = new ArrayList<>();
-
-        for (ElementData element : allElements) {
-            // Filter for metals and metalloids that are solid (suitable for ingots/nuggets/plates/blocks)
-            if (("metal".equals(element.metalType) || "metalloid".equals(element.metalType)) &&
-                "solid".equals(element.matterState)) {
-                metals.add(element);
-            }
-        }
-
-        ChemlibMekanized.LOGGER.info("Extracted {} solid metals and metalloids from ChemLib for item generation", metals.size());
-        return metals;
+        return ChemLibDataset.get().metals();
     }
 
     /**
@@ -241,95 +281,259 @@ public class ChemLibDataExtractor {
      * @return List of metalloid element data
      */
     public static List<ElementData> extractMetalloids() {
-        List<ElementData> allElements = extractElements();
-        List<ElementData> metalloids = new ArrayList<>();
+        return ChemLibDataset.get().metalloids();
+    }
 
-        for (ElementData element : allElements) {
-            // Filter for metalloids that are solid
-            if ("metalloid".equals(element.metalType) && "solid".equals(element.matterState)) {
-                metalloids.add(element);
+    /**
+     * Parse compounds.json from the JSON override directory.
+     * Prefer {@link ChemLibDataset#get()}, which loads once and shares the result.
+     */
+    public static List<CompoundData> extractCompounds() {
+        return getJsonOverrideDir().map(ChemLibDataExtractor::extractCompounds).orElseGet(() -> {
+            ChemlibMekanized.LOGGER.error("No ChemLib JSON directory configured - set -D{}", DATA_DIR_PROPERTY);
+            return new ArrayList<>();
+        });
+    }
+
+    /**
+     * Parse compounds.json from a ChemLib data directory.
+     */
+    public static List<CompoundData> extractCompounds(Path dataDir) {
+        List<CompoundData> compounds = new ArrayList<>();
+        Path compoundsPath = dataDir.resolve("compounds.json");
+
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(compoundsPath, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("compounds".equals(reader.nextName())) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        CompoundData compound = readCompound(reader);
+                        // Compounds that already have fluids (like water which uses vanilla) are skipped
+                        if (compound != null) {
+                            compounds.add(compound);
+                        }
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
             }
+            reader.endObject();
+        } catch (IOException | IllegalStateException e) {
+            ChemlibMekanized.LOGGER.error("Failed to read compounds.json", e);
         }
 
-        ChemlibMekanized.LOGGER.info("Extracted {} solid metalloids from ChemLib", metalloids.size());
-        return metalloids;
+        return compounds;
     }
 
-    public static List<CompoundData> extractCompounds() {
-        List<CompoundData> compounds = new ArrayList<>();
-        Path compoundsPath = Paths.get(CHEMLIB_PATH + "compounds.json");
-
-        try (FileReader reader = new FileReader(compoundsPath.toFile())) {
-            JsonObject root = GSON.fromJson(reader, JsonObject.class);
-            JsonArray compoundsArray = root.getAsJsonArray("compounds");
+    /**
+     * Read one compound object, or return null if it already has a fluid elsewhere.
+     */
+    private static CompoundData readCompound(JsonReader reader) throws IOException {
+        String name = null;
+        String matterState = null;
+        boolean hasItem = false;
+        boolean hasFluid = false;
+        String description = "";
+        String color = null;
+        FluidProperties fluidProps = null;
+        List<ComponentData> components = List.of();
+        List<EffectData> effects = List.of();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "matter_state" -> matterState = reader.nextString();
+                case "has_item" -> hasItem = reader.nextBoolean();
+                case "has_fluid" -> hasFluid = reader.nextBoolean();
+                case "description" -> description = reader.nextString();
+                case "color" -> color = reader.nextString();
+                case "fluid_properties" -> fluidProps = readFluidProperties(reader);
+                case "components" -> components = readComponents(reader);
+                case "effect" -> effects = readEffects(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-            for (JsonElement compound : compoundsArray) {
-                JsonObject compoundObj = compound.getAsJsonObject();
+        if (hasFluid) {
+            return null;
+        }
+        return new CompoundData(name, parseMatterState(name, matterState), hasItem, description,
+                                parseColor(name, color), fluidProps, components, effects);
+    }
 
-                String name = compoundObj.get("name").getAsString();
-                String matterState = compoundObj.get("matter_state").getAsString();
-                boolean hasItem = compoundObj.has("has_item") && compoundObj.get("has_item").getAsBoolean();
-                boolean hasFluid = compoundObj.has("has_fluid") && compoundObj.get("has_fluid").getAsBoolean();
-                String description = compoundObj.has("description") ? compoundObj.get("description").getAsString() : "";
-                String color = compoundObj.get("color").getAsString();
+    private static FluidProperties readFluidProperties(JsonReader reader) throws IOException {
+        int density = 0;
+        int lightLevel = 0;
+        int viscosity = 0;
+        int temperature = 0;
+        double motionScale = 0;
+        double fallDistanceModifier = 0;
+        String pathType = null;
+        boolean pushEntity = false;
+        boolean canSwim = false;
+        boolean canDrown = false;
+        boolean canHydrate = false;
+        boolean canExtinguish = false;
+        boolean supportsBoating = false;
+        boolean canConvertToSource = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "density" -> density = reader.nextInt();
+                case "light_level" -> lightLevel = reader.nextInt();
+                case "viscosity" -> viscosity = reader.nextInt();
+                case "temperature" -> temperature = reader.nextInt();
+                case "motion_scale" -> motionScale = reader.nextDouble();
+                case "fall_distance_modifier" -> fallDistanceModifier = reader.nextDouble();
+                case "path_type" -> pathType = reader.nextString();
+                case "push_entity" -> pushEntity = reader.nextBoolean();
+                case "can_swim" -> canSwim = reader.nextBoolean();
+                case "can_drown" -> canDrown = reader.nextBoolean();
+                case "can_hydrate" -> canHydrate = reader.nextBoolean();
+                case "can_extinguish" -> canExtinguish = reader.nextBoolean();
+                case "supports_boating" -> supportsBoating = reader.nextBoolean();
+                case "can_convert_to_source" -> canConvertToSource = reader.nextBoolean();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-                // Skip compounds that already have fluids (like water which uses vanilla)
-                if (hasFluid) {
-                    continue;
-                }
+        return new FluidProperties(density, lightLevel, viscosity, temperature, motionScale, fallDistanceModifier,
+                                   pathType, pushEntity, canSwim, canDrown, canHydrate, canExtinguish,
+                                   supportsBoating, canConvertToSource);
+    }
 
-                FluidProperties fluidProps = null;
-                if (compoundObj.has("fluid_properties")) {
-                    JsonObject fluidObj = compoundObj.getAsJsonObject("fluid_properties");
-                    fluidProps = new FluidProperties(
-                        fluidObj.get("density").getAsInt(),
-                        fluidObj.get("light_level").getAsInt(),
-                        fluidObj.get("viscosity").getAsInt(),
-                        fluidObj.get("temperature").getAsInt(),
-                        fluidObj.get("motion_scale").getAsDouble(),
-                        fluidObj.get("fall_distance_modifier").getAsDouble(),
-                        fluidObj.get("path_type").getAsString(),
-                        fluidObj.get("push_entity").getAsBoolean(),
-                        fluidObj.get("can_swim").getAsBoolean(),
-                        fluidObj.get("can_drown").getAsBoolean(),
-                        fluidObj.get("can_hydrate").getAsBoolean(),
-                        fluidObj.get("can_extinguish").getAsBoolean(),
-                        fluidObj.get("supports_boating").getAsBoolean(),
-                        fluidObj.get("can_convert_to_source").getAsBoolean()
-                    );
+    private static List<EffectData> readEffects(JsonReader reader) throws IOException {
+        List<EffectData> effects = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String location = null;
+            int duration = 0;
+            int amplifier = 0;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "location" -> location = reader.nextString();
+                    // ChemLib stores the duration as a string; nextInt() accepts both forms
+                    case "duration" -> duration = reader.nextInt();
+                    case "amplifier" -> amplifier = reader.nextInt();
+                    default -> reader.skipValue();
                 }
+            }
+            reader.endObject();
+            effects.add(new EffectData(location, duration, amplifier));
+        }
+        reader.endArray();
+        return List.copyOf(effects);
+    }
 
-                List<ComponentData> components = new ArrayList<>();
-                if (compoundObj.has("components")) {
-                    JsonArray componentsArray = compoundObj.getAsJsonArray("components");
-                    for (JsonElement componentElement : componentsArray) {
-                        JsonObject componentObj = componentElement.getAsJsonObject();
-                        String componentName = componentObj.get("name").getAsString();
-                        int count = componentObj.has("count") ? componentObj.get("count").getAsInt() : 1;
-                        components.add(new ComponentData(componentName, count));
-                    }
+    private static List<ComponentData> readComponents(JsonReader reader) throws IOException {
+        List<ComponentData> components = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String name = null;
+            int count = 1;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "name" -> name = reader.nextString();
+                    case "count" -> count = reader.nextInt();
+                    default -> reader.skipValue();
                 }
+            }
+            reader.endObject();
+            components.add(new ComponentData(name, count));
+        }
+        reader.endArray();
+        return List.copyOf(components);
+    }
 
-                List<EffectData> effects = new ArrayList<>();
-                if (compoundObj.has("effect")) {
-                    JsonArray effectsArray = compoundObj.getAsJsonArray("effect");
-                    for (JsonElement effectElement : effectsArray) {
-                        JsonObject effectObj = effectElement.getAsJsonObject();
-                        effects.add(new EffectData(
-                            effectObj.get("location").getAsString(),
-                            Integer.parseInt(effectObj.get("duration").getAsString()),
-                            effectObj.get("amplifier").getAsInt()
-                        ));
-                    }
-                }
+    /**
+     * Parse a ChemLib hex color ("rrggbb", optionally with a leading '#', or "aarrggbb") into opaque ARGB.
+     * Malformed colors are reported once here so consumers never have to re-check them.
+     * ChemLib's promethium color "62af0a7" has one digit too many; 7-digit colors keep their
+     * low six digits, which is how ChemLib itself and our element items have always rendered them.
+     */
+    public static int parseColor(String owner, String hex) {
+        if (hex == null || hex.isEmpty()) {
+            ChemlibMekanized.LOGGER.warn("Missing color for {}, using white", owner);
+            return DEFAULT_ARGB;
+        }
 
-                compounds.add(new CompoundData(name, matterState, hasItem, description, color,
-                                             fluidProps, components, effects));
+        String digits = hex.startsWith("#") ? hex.substring(1) : hex;
+        try {
+            int value = (int) Long.parseLong(digits, 16);
+            switch (digits.length()) {
+                case 6:
+                    return value | 0xFF000000;
+                case 7:
+                    ChemlibMekanized.LOGGER.warn("Malformed color for {}: {} - using {}", owner, hex, digits.substring(1));
+                    return value | 0xFF000000;
+                case 8:
+                    return value;
+                default:
+                    break;
             }
-        } catch (IOException e) {
-            ChemlibMekanized.LOGGER.error("Failed to read compounds.json", e);
+        } catch (NumberFormatException e) {
+            // Reported below
         }
+        ChemlibMekanized.LOGGER.warn("Invalid color format for {}: {}, using white", owner, hex);
+        return DEFAULT_ARGB;
+    }
 
-        return compounds;
+    /**
+     * Whether {@link #parseColor} reads this color rather than falling back to white.
+     */
+    public static boolean isValidColor(String hex) {
+        if (hex == null) {
+            return false;
+        }
+        String digits = hex.startsWith("#") ? hex.substring(1) : hex;
+        if (digits.length() < 6 || digits.length() > 8) {
+            return false;
+        }
+        try {
+            Long.parseLong(digits, 16);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parse a group or period number; malformed values are reported and read as 0.
+     */
+    public static int parsePeriodicTableNumber(String owner, String field, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NullPointerException | NumberFormatException e) {
+            ChemlibMekanized.LOGGER.warn("Invalid {} for element {}: {}", field, owner, value);
+            return 0;
+        }
+    }
+
+    public static MatterState parseMatterState(String owner, String value) {
+        MatterState state = MatterState.byName(value);
+        if (state == null) {
+            ChemlibMekanized.LOGGER.warn("Unknown matter state for {}: {}, treating as solid", owner, value);
+            return MatterState.SOLID;
+        }
+        return state;
+    }
+
+    public static MetalType parseMetalType(String owner, String value) {
+        MetalType type = MetalType.byName(value);
+        if (type == null) {
+            ChemlibMekanized.LOGGER.warn("Unknown metal type for {}: {}, treating as nonmetal", owner, value);
+            return MetalType.NONMETAL;
+        }
+        return type;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,257 @@
+package com.hecookin.chemlibmekanized.extraction;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.api.MatterState;
+import com.hecookin.chemlibmekanized.api.MetalType;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.CompoundData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.ElementData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the ChemLib element and compound data.
+ * The data is loaded once, on first access, and every registry, datagen provider
+ * and utility reads the same instance and its pre-filtered views.
+ * Elements are also indexed by atomic number, name and abbreviation, and compounds by name.
+ *
+ * <p>Production builds read the binary dataset bundled in the jar (see {@link ChemLibDatasetCodec});
+ * setting {@link ChemLibDataExtractor#DATA_DIR_PROPERTY} parses ChemLib's JSON files instead.</p>
+ */
+public final class ChemLibDataset {
+
+    /**
+     * Classpath location of the binary dataset produced by the compileChemLibDataset build task.
+     */
+    public static final String BUNDLED_DATASET = "/chemlibmekanized/chemlib_dataset.bin";
+
+    /**
+     * Highest atomic number in the periodic table (oganesson).
+     */
+    public static final int MAX_ATOMIC_NUMBER = 118;
+
+    private final List<ElementData> elements;
+    private final List<CompoundData> compounds;
+    private final List<ElementData> metals;
+    private final List<ElementData> metalloids;
+    private final List<ElementData> liquidElements;
+    private final List<ElementData> gasElements;
+    private final List<CompoundData> liquidCompounds;
+    private final List<CompoundData> gasCompounds;
+
+    private final ElementData[] elementsByAtomicNumber = new ElementData[MAX_ATOMIC_NUMBER + 1];
+    private final SortedNameIndex<ElementData> elementsByName;
+    private final SortedNameIndex<ElementData> elementsByAbbreviation;
+    private final SortedNameIndex<CompoundData> compoundsByName;
+
+    private ChemLibDataset(List<ElementData> elements, List<CompoundData> compounds) {
+        this.elements = List.copyOf(elements);
+        this.compounds = List.copyOf(compounds);
+
+        List<ElementData> metals = new ArrayList<>();
+        List<ElementData> metalloids = new ArrayList<>();
+        List<ElementData> liquidElements = new ArrayList<>();
+        List<ElementData> gasElements = new ArrayList<>();
+        for (ElementData element : this.elements) {
+            boolean solid = element.matterState == MatterState.SOLID;
+            // Solid metals and metalloids are suitable for ingots/nuggets/plates/crystals
+            if (solid && element.metalType != MetalType.NONMETAL) {
+                metals.add(element);
+            }
+            if (solid && element.metalType == MetalType.METALLOID) {
+                metalloids.add(element);
+            }
+            if (element.atomicNumber <= 0 || element.atomicNumber > MAX_ATOMIC_NUMBER) {
+                ChemlibMekanized.LOGGER.warn("ChemLib element {} has invalid atomic number {}", element.name, element.atomicNumber);
+            } else if (elementsByAtomicNumber[element.atomicNumber] != null) {
+                ChemlibMekanized.LOGGER.warn("ChemLib elements {} and {} share atomic number {} - keeping {}",
+                    elementsByAtomicNumber[element.atomicNumber].name, element.name, element.atomicNumber,
+                    elementsByAtomicNumber[element.atomicNumber].name);
+            } else {
+                elementsByAtomicNumber[element.atomicNumber] = element;
+            }
+            if (element.matterState == MatterState.LIQUID) {
+                liquidElements.add(element);
+            } else if (element.matterState == MatterState.GAS) {
+                gasElements.add(element);
+            }
+        }
+
+        List<CompoundData> liquidCompounds = new ArrayList<>();
+        List<CompoundData> gasCompounds = new ArrayList<>();
+        for (CompoundData compound : this.compounds) {
+            if (compound.matterState == MatterState.LIQUID) {
+                liquidCompounds.add(compound);
+            } else if (compound.matterState == MatterState.GAS) {
+                gasCompounds.add(compound);
+            }
+        }
+
+        this.metals = List.copyOf(metals);
+        this.metalloids = List.copyOf(metalloids);
+        this.liquidElements = List.copyOf(liquidElements);
+        this.gasElements = List.copyOf(gasElements);
+        this.liquidCompounds = List.copyOf(liquidCompounds);
+        this.gasCompounds = List.copyOf(gasCompounds);
+
+        this.elementsByName = new SortedNameIndex<>("element name", this.elements, element -> element.name);
+        this.elementsByAbbreviation = new SortedNameIndex<>("element abbreviation", this.elements, element -> element.abbreviation);
+        this.compoundsByName = new SortedNameIndex<>("compound name", this.compounds, compound -> compound.name);
+    }
+
+    /**
+     * Get the shared dataset, parsing the ChemLib data on first call.
+     * Safe to call from any thread; the holder class guarantees a single load.
+     */
+    public static ChemLibDataset get() {
+        return Holder.INSTANCE;
+    }
+
+    private static ChemLibDataset load() {
+        long start = System.nanoTime();
+        String source;
+        ChemLibDataset dataset;
+
+        Optional<Path> jsonOverride = ChemLibDataExtractor.getJsonOverrideDir();
+        if (jsonOverride.isPresent()) {
+            source = "JSON override " + jsonOverride.get();
+            dataset = new ChemLibDataset(ChemLibDataExtractor.extractElements(jsonOverride.get()),
+                ChemLibDataExtractor.extractCompounds(jsonOverride.get()));
+        } else {
+            source = "bundled " + BUNDLED_DATASET;
+            ChemLibDatasetCodec.Decoded decoded = readBundledDataset();
+            dataset = new ChemLibDataset(decoded.elements(), decoded.compounds());
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+        ChemlibMekanized.LOGGER.info("Built ChemLib dataset from {} in {} ms - {} elements ({} solid metals/metalloids, {} metalloids, {} liquids, {} gases), {} compounds ({} liquids, {} gases)",
+            source, elapsedMs, dataset.elements.size(), dataset.metals.size(), dataset.metalloids.size(),
+            dataset.liquidElements.size(), dataset.gasElements.size(), dataset.compounds.size(),
+            dataset.liquidCompounds.size(), dataset.gasCompounds.size());
+        return dataset;
+    }
+
+    /**
+     * Read the bundled binary dataset. Exploded (development) classpaths are memory-mapped;
+     * jar entries are copied once into a direct buffer.
+     */
+    private static ChemLibDatasetCodec.Decoded readBundledDataset() {
+        URL url = ChemLibDataset.class.getResource(BUNDLED_DATASET);
+        if (url == null) {
+            ChemlibMekanized.LOGGER.error("Bundled ChemLib dataset {} is missing - run the compileChemLibDataset task or set -D{}",
+                BUNDLED_DATASET, ChemLibDataExtractor.DATA_DIR_PROPERTY);
+            return new ChemLibDatasetCodec.Decoded(List.of(), List.of());
+        }
+
+        try {
+            ByteBuffer buffer;
+            if ("file".equals(url.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            } else {
+                try (InputStream in = url.openStream()) {
+                    byte[] bytes = in.readAllBytes();
+                    buffer = ByteBuffer.allocateDirect(bytes.length);
+                    buffer.put(bytes).flip();
+                }
+            }
+            return ChemLibDatasetCodec.read(buffer);
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            ChemlibMekanized.LOGGER.error("Failed to read bundled ChemLib dataset {}", BUNDLED_DATASET, e);
+            return new ChemLibDatasetCodec.Decoded(List.of(), List.of());
+        }
+    }
+
+    /**
+     * All elements, in data file order.
+     */
+    public List<ElementData> elements() {
+        return elements;
+    }
+
+    /**
+     * All compounds that do not already have a fluid elsewhere, in data file order.
+     */
+    public List<CompoundData> compounds() {
+        return compounds;
+    }
+
+    /**
+     * Solid metals and metalloids (suitable for ingots/nuggets/plates/crystals).
+     */
+    public List<ElementData> metals() {
+        return metals;
+    }
+
+    /**
+     * Solid metalloids only.
+     */
+    public List<ElementData> metalloids() {
+        return metalloids;
+    }
+
+    public List<ElementData> liquidElements() {
+        return liquidElements;
+    }
+
+    public List<ElementData> gasElements() {
+        return gasElements;
+    }
+
+    public List<CompoundData> liquidCompounds() {
+        return liquidCompounds;
+    }
+
+    public List<CompoundData> gasCompounds() {
+        return gasCompounds;
+    }
+
+    /**
+     * Element lookup by atomic number, backed by a dense array.
+     * @return the element, or null if the number is out of range or missing from the data
+     */
+    public ElementData element(int atomicNumber) {
+        if (atomicNumber <= 0 || atomicNumber > MAX_ATOMIC_NUMBER) {
+            return null;
+        }
+        return elementsByAtomicNumber[atomicNumber];
+    }
+
+    /**
+     * Element lookup by ChemLib name (e.g. "iron").
+     * @return the element, or null if there is none
+     */
+    public ElementData elementByName(String name) {
+        return elementsByName.get(name);
+    }
+
+    /**
+     * Element lookup by symbol (e.g. "Fe"), case-sensitive.
+     * @return the element, or null if there is none
+     */
+    public ElementData elementByAbbreviation(String abbreviation) {
+        return elementsByAbbreviation.get(abbreviation);
+    }
+
+    /**
+     * Compound lookup by ChemLib name (e.g. "iron_oxide").
+     * @return the compound, or null if there is none
+     */
+    public CompoundData compoundByName(String name) {
+        return compoundsByName.get(name);
+    }
+
+    private static final class Holder {
+        private static final ChemLibDataset INSTANCE = load();
+    }
+}
@@ -0,0 +1,307 @@
+package com.hecookin.chemlibmekanized.extraction;
+
+import com.hecookin.chemlibmekanized.api.MatterState;
+import com.hecookin.chemlibmekanized.api.MetalType;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.ComponentData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.CompoundData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.EffectData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.ElementData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.FluidProperties;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of the ChemLib element and compound data.
+ *
+ * <p>Layout (big-endian): a header, a string table, then fixed-width record tables for
+ * fluid properties, effects, components, elements and compounds. Records reference strings
+ * and other records by index, so decoding is a single forward pass over a ByteBuffer with
+ * no intermediate JSON tree.</p>
+ *
+ * <pre>
+ * header     : int magic, int version, int tableCount[6] (strings, fluids, effects, components, elements, compounds)
+ * string     : u16 byteLength, UTF-8 bytes
+ * fluid      : int density, lightLevel, viscosity, temperature; double motionScale, fallDistanceModifier;
+ *              int pathType; byte flags
+ * effect     : int location, duration, amplifier
+ * component  : int name, count
+ * element    : int name, atomicNumber, abbreviation, group, period; byte matterState, metalType;
+ *              int argb; byte flags; int fluid, effectStart, effectCount
+ * compound   : int name; byte matterState; int description, argb; byte flags;
+ *              int fluid, componentStart, componentCount, effectStart, effectCount
+ * </pre>
+ *
+ * <p>Matter state and metal type are stored as enum ordinals. Colors, groups and periods are
+ * stored already parsed and validated, so loading the bundled dataset does no string parsing.</p>
+ */
+public final class ChemLibDatasetCodec {
+
+    public static final int MAGIC = 0x434C4D44; // "CLMD"
+    public static final int VERSION = 3;
+
+    private static final int NO_INDEX = -1;
+
+    private static final int ELEMENT_ARTIFICIAL = 1;
+    private static final int ELEMENT_HAS_ITEM = 1 << 1;
+    private static final int ELEMENT_COLOR_VALID = 1 << 2;
+    private static final int COMPOUND_HAS_ITEM = 1;
+
+    private static final MatterState[] MATTER_STATES = MatterState.values();
+    private static final MetalType[] METAL_TYPES = MetalType.values();
+
+    private ChemLibDatasetCodec() {
+    }
+
+    /**
+     * Decoded contents of a binary dataset.
+     */
+    public record Decoded(List<ElementData> elements, List<CompoundData> compounds) {
+    }
+
+    /**
+     * Encode elements and compounds into the binary format.
+     */
+    public static void write(List<ElementData> elements, List<CompoundData> compounds, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        List<FluidProperties> fluids = new ArrayList<>();
+        List<EffectData> effects = new ArrayList<>();
+        List<ComponentData> components = new ArrayList<>();
+
+        // Records are written into a side buffer first so the string table is complete before the header
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+
+        ByteArrayOutputStream elementBytes = new ByteArrayOutputStream();
+        DataOutputStream elementOut = new DataOutputStream(elementBytes);
+        for (ElementData element : elements) {
+            elementOut.writeInt(strings.index(element.name));
+            elementOut.writeInt(element.atomicNumber);
+            elementOut.writeInt(strings.index(element.abbreviation));
+            elementOut.writeInt(element.group);
+            elementOut.writeInt(element.period);
+            elementOut.writeByte(element.matterState.ordinal());
+            elementOut.writeByte(element.metalType.ordinal());
+            elementOut.writeInt(element.argb);
+            elementOut.writeByte((element.artificial ? ELEMENT_ARTIFICIAL : 0) | (element.hasItem ? ELEMENT_HAS_ITEM : 0)
+                | (element.colorValid ? ELEMENT_COLOR_VALID : 0));
+            elementOut.writeInt(addFluid(fluids, element.fluidProperties));
+            elementOut.writeInt(effects.size());
+            elementOut.writeInt(element.effects.size());
+            effects.addAll(element.effects);
+        }
+
+        ByteArrayOutputStream compoundBytes = new ByteArrayOutputStream();
+        DataOutputStream compoundOut = new DataOutputStream(compoundBytes);
+        for (CompoundData compound : compounds) {
+            compoundOut.writeInt(strings.index(compound.name));
+            compoundOut.writeByte(compound.matterState.ordinal());
+            compoundOut.writeInt(strings.index(compound.description));
+            compoundOut.writeInt(compound.argb);
+            compoundOut.writeByte(compound.hasItem ? COMPOUND_HAS_ITEM : 0);
+            compoundOut.writeInt(addFluid(fluids, compound.fluidProperties));
+            compoundOut.writeInt(components.size());
+            compoundOut.writeInt(compound.components.size());
+            components.addAll(compound.components);
+            compoundOut.writeInt(effects.size());
+            compoundOut.writeInt(compound.effects.size());
+            effects.addAll(compound.effects);
+        }
+
+        for (FluidProperties fluid : fluids) {
+            records.writeInt(fluid.density);
+            records.writeInt(fluid.lightLevel);
+            records.writeInt(fluid.viscosity);
+            records.writeInt(fluid.temperature);
+            records.writeDouble(fluid.motionScale);
+            records.writeDouble(fluid.fallDistanceModifier);
+            records.writeInt(strings.index(fluid.pathType));
+            records.writeByte(packFluidFlags(fluid));
+        }
+        for (EffectData effect : effects) {
+            records.writeInt(strings.index(effect.location));
+            records.writeInt(effect.duration);
+            records.writeInt(effect.amplifier);
+        }
+        for (ComponentData component : components) {
+            records.writeInt(strings.index(component.name));
+            records.writeInt(component.count);
+        }
+        elementBytes.writeTo(records);
+        compoundBytes.writeTo(records);
+        records.flush();
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(strings.values.size());
+        data.writeInt(fluids.size());
+        data.writeInt(effects.size());
+        data.writeInt(components.size());
+        data.writeInt(elements.size());
+        data.writeInt(compounds.size());
+        for (String value : strings.values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) {
+                throw new IOException("String too long for dataset string table: " + value.substring(0, 32) + "...");
+            }
+            data.writeShort(bytes.length);
+            data.write(bytes);
+        }
+        recordBytes.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Decode a binary dataset. The buffer is read from its current position; heap, direct
+     * and memory-mapped buffers are all supported.
+     *
+     * @throws IllegalArgumentException if the buffer is not a dataset of a supported version
+     */
+    public static Decoded read(ByteBuffer source) {
+        ByteBuffer buffer = source.duplicate().order(ByteOrder.BIG_ENDIAN);
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a ChemLib dataset (bad magic)");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported ChemLib dataset version " + version + " (expected " + VERSION + ")");
+        }
+
+        int stringCount = buffer.getInt();
+        int fluidCount = buffer.getInt();
+        int effectCount = buffer.getInt();
+        int componentCount = buffer.getInt();
+        int elementCount = buffer.getInt();
+        int compoundCount = buffer.getInt();
+
+        String[] strings = new String[stringCount];
+        byte[] scratch = new byte[256];
+        for (int i = 0; i < stringCount; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort());
+            if (scratch.length < length) {
+                scratch = new byte[length];
+            }
+            buffer.get(scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        FluidProperties[] fluids = new FluidProperties[fluidCount];
+        for (int i = 0; i < fluidCount; i++) {
+            int density = buffer.getInt();
+            int lightLevel = buffer.getInt();
+            int viscosity = buffer.getInt();
+            int temperature = buffer.getInt();
+            double motionScale = buffer.getDouble();
+            double fallDistanceModifier = buffer.getDouble();
+            String pathType = string(strings, buffer.getInt());
+            int flags = buffer.get();
+            fluids[i] = new FluidProperties(density, lightLevel, viscosity, temperature, motionScale, fallDistanceModifier, pathType,
+                (flags & 1) != 0, (flags & 1 << 1) != 0, (flags & 1 << 2) != 0, (flags & 1 << 3) != 0,
+                (flags & 1 << 4) != 0, (flags & 1 << 5) != 0, (flags & 1 << 6) != 0);
+        }
+
+        EffectData[] effects = new EffectData[effectCount];
+        for (int i = 0; i < effectCount; i++) {
+            effects[i] = new EffectData(string(strings, buffer.getInt()), buffer.getInt(), buffer.getInt());
+        }
+
+        ComponentData[] components = new ComponentData[componentCount];
+        for (int i = 0; i < componentCount; i++) {
+            components[i] = new ComponentData(string(strings, buffer.getInt()), buffer.getInt());
+        }
+
+        List<ElementData> elements = new ArrayList<>(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            String name = string(strings, buffer.getInt());
+            int atomicNumber = buffer.getInt();
+            String abbreviation = string(strings, buffer.getInt());
+            int group = buffer.getInt();
+            int period = buffer.getInt();
+            MatterState matterState = MATTER_STATES[buffer.get()];
+            MetalType metalType = METAL_TYPES[buffer.get()];
+            int argb = buffer.getInt();
+            int flags = buffer.get();
+            FluidProperties fluid = fluid(fluids, buffer.getInt());
+            List<EffectData> elementEffects = slice(effects, buffer.getInt(), buffer.getInt());
+            elements.add(new ElementData(name, atomicNumber, abbreviation, group, period, matterState, metalType,
+                (flags & ELEMENT_ARTIFICIAL) != 0, (flags & ELEMENT_HAS_ITEM) != 0, argb, (flags & ELEMENT_COLOR_VALID) != 0,
+                fluid, elementEffects));
+        }
+
+        List<CompoundData> compounds = new ArrayList<>(compoundCount);
+        for (int i = 0; i < compoundCount; i++) {
+            String name = string(strings, buffer.getInt());
+            MatterState matterState = MATTER_STATES[buffer.get()];
+            String description = string(strings, buffer.getInt());
+            int argb = buffer.getInt();
+            int flags = buffer.get();
+            FluidProperties fluid = fluid(fluids, buffer.getInt());
+            List<ComponentData> compoundComponents = slice(components, buffer.getInt(), buffer.getInt());
+            List<EffectData> compoundEffects = slice(effects, buffer.getInt(), buffer.getInt());
+            compounds.add(new CompoundData(name, matterState, (flags & COMPOUND_HAS_ITEM) != 0, description, argb,
+                fluid, compoundComponents, compoundEffects));
+        }
+
+        return new Decoded(elements, compounds);
+    }
+
+    private static int addFluid(List<FluidProperties> fluids, FluidProperties fluid) {
+        if (fluid == null) {
+            return NO_INDEX;
+        }
+        fluids.add(fluid);
+        return fluids.size() - 1;
+    }
+
+    private static int packFluidFlags(FluidProperties fluid) {
+        return (fluid.pushEntity ? 1 : 0)
+            | (fluid.canSwim ? 1 << 1 : 0)
+            | (fluid.canDrown ? 1 << 2 : 0)
+            | (fluid.canHydrate ? 1 << 3 : 0)
+            | (fluid.canExtinguish ? 1 << 4 : 0)
+            | (fluid.supportsBoating ? 1 << 5 : 0)
+            | (fluid.canConvertToSource ? 1 << 6 : 0);
+    }
+
+    private static String string(String[] strings, int index) {
+        return index == NO_INDEX ? null : strings[index];
+    }
+
+    private static FluidProperties fluid(FluidProperties[] fluids, int index) {
+        return index == NO_INDEX ? null : fluids[index];
+    }
+
+    private static <T> List<T> slice(T[] values, int start, int count) {
+        return count == 0 ? List.of() : List.of(Arrays.copyOfRange(values, start, start + count));
+    }
+
+    /**
+     * Deduplicating string table; element names, matter states and the like are stored once.
+     */
+    private static final class StringTable {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        int index(String value) {
+            if (value == null) {
+                return NO_INDEX;
+            }
+            return indices.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.hecookin.chemlibmekanized.extraction;
+
+import com.google.gson.stream.JsonReader;
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.ElementData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The materials that get crystals and dirty/clean slurries, with their tints.
+ *
+ * <p>Crystals are made for every solid metal and metalloid in the {@link ChemLibDataset}, tinted with ChemLib's color.
+ * Slurries are made for the same elements, adjusted by the bundled {@link #OVERRIDES} file: elements Mekanism
+ * already processes are excluded, a few non-solid elements are included, and legacy aliases and non-element
+ * materials (quartz, coal, ...) are added with their own colors. Built once, on first access.</p>
+ */
+public final class MetalMaterials {
+
+    /**
+     * Classpath location of the slurry override file.
+     */
+    public static final String OVERRIDES = "/chemlibmekanized/metal_overrides.json";
+
+    /**
+     * A material with a tint. {@code element} is null for materials that are not ChemLib elements.
+     */
+    public record Material(String name, int argb, ElementData element) {
+    }
+
+    private final List<Material> crystals;
+    private final List<Material> slurries;
+
+    private MetalMaterials(List<Material> crystals, List<Material> slurries) {
+        this.crystals = List.copyOf(crystals);
+        this.slurries = List.copyOf(slurries);
+    }
+
+    /**
+     * Get the shared material lists, building them on first call.
+     */
+    public static MetalMaterials get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return every material with a crystal item, in dataset order (immutable)
+     */
+    public List<Material> crystals() {
+        return crystals;
+    }
+
+    /**
+     * @return every material with a dirty and clean slurry, elements first in dataset order (immutable)
+     */
+    public List<Material> slurries() {
+        return slurries;
+    }
+
+    private static MetalMaterials build() {
+        ChemLibDataset dataset = ChemLibDataset.get();
+        Overrides overrides = readOverrides();
+
+        List<Material> crystals = new ArrayList<>();
+        Map<String, Material> slurries = new LinkedHashMap<>();
+        for (ElementData element : dataset.metals()) {
+            Material material = new Material(element.name, element.argb, element);
+            crystals.add(material);
+            if (!overrides.exclude.contains(element.name)) {
+                addSlurry(slurries, material);
+            }
+        }
+        for (String name : overrides.include) {
+            ElementData element = dataset.elementByName(name);
+            if (element == null) {
+                ChemlibMekanized.LOGGER.warn("{} includes unknown element {}", OVERRIDES, name);
+            } else {
+                addSlurry(slurries, new Material(element.name, element.argb, element));
+            }
+        }
+        overrides.aliases.forEach((alias, name) -> {
+            ElementData element = dataset.elementByName(name);
+            if (element == null) {
+                ChemlibMekanized.LOGGER.warn("{} aliases {} to unknown element {}", OVERRIDES, alias, name);
+            } else {
+                addSlurry(slurries, new Material(alias, element.argb, element));
+            }
+        });
+        overrides.extra.forEach((name, argb) -> addSlurry(slurries, new Material(name, argb, null)));
+
+        ChemlibMekanized.LOGGER.info("Resolved {} crystal and {} slurry materials", crystals.size(), slurries.size());
+        return new MetalMaterials(crystals, List.copyOf(slurries.values()));
+    }
+
+    private static void addSlurry(Map<String, Material> slurries, Material material) {
+        // A repeated name would register the same chemical twice
+        if (slurries.putIfAbsent(material.name(), material) != null) {
+            ChemlibMekanized.LOGGER.warn("{} lists slurry {} more than once, keeping the first", OVERRIDES, material.name());
+        }
+    }
+
+    private static Overrides readOverrides() {
+        Overrides overrides = new Overrides();
+        InputStream stream = MetalMaterials.class.getResourceAsStream(OVERRIDES);
+        if (stream == null) {
+            ChemlibMekanized.LOGGER.error("Metal override file {} is missing - slurries follow the dataset only", OVERRIDES);
+            return overrides;
+        }
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "exclude" -> readNames(reader, overrides.exclude);
+                    case "include" -> readNames(reader, overrides.include);
+                    case "aliases" -> {
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            overrides.aliases.put(reader.nextName(), reader.nextString());
+                        }
+                        reader.endObject();
+                    }
+                    case "extra" -> {
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            String name = reader.nextName();
+                            overrides.extra.put(name, ChemLibDataExtractor.parseColor(name, reader.nextString()));
+                        }
+                        reader.endObject();
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IOException | RuntimeException e) {
+            ChemlibMekanized.LOGGER.error("Failed to read metal override file {}", OVERRIDES, e);
+        }
+        return overrides;
+    }
+
+    private static void readNames(JsonReader reader, Set<String> names) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            names.add(reader.nextString());
+        }
+        reader.endArray();
+    }
+
+    /**
+     * Contents of the override file.
+     */
+    private static final class Overrides {
+        // Dataset metals without slurries, because Mekanism has its own
+        private final Set<String> exclude = new HashSet<>();
+        // Dataset elements outside the solid metals that still get slurries
+        private final Set<String> include = new LinkedHashSet<>();
+        // Extra slurry names tinted like the element they alias
+        private final Map<String, String> aliases = new LinkedHashMap<>();
+        // Non-element slurries and their tints
+        private final Map<String, Integer> extra = new LinkedHashMap<>();
+    }
+
+    private static final class Holder {
+        private static final MetalMaterials INSTANCE = build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.hecookin.chemlibmekanized.extraction;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable string-keyed lookup backed by two parallel sorted arrays.
+ * Binary search over ~100-300 keys needs no hashing and no per-entry node objects,
+ * and the index never changes after the dataset is built.
+ */
+final class SortedNameIndex<T> {
+    private final String[] keys;
+    private final Object[] values;
+
+    SortedNameIndex(String description, List<T> entries, Function<T, String> keyFunction) {
+        // Stable sort, so the first of any duplicate keys (in data file order) wins
+        List<T> sorted = entries.stream()
+            .filter(entry -> keyFunction.apply(entry) != null)
+            .sorted(Comparator.comparing(keyFunction))
+            .toList();
+
+        List<String> keys = new ArrayList<>(sorted.size());
+        List<T> values = new ArrayList<>(sorted.size());
+        for (T entry : sorted) {
+            String key = keyFunction.apply(entry);
+            if (!keys.isEmpty() && key.equals(keys.get(keys.size() - 1))) {
+                ChemlibMekanized.LOGGER.warn("Duplicate ChemLib {} '{}' - keeping the first entry", description, key);
+                continue;
+            }
+            keys.add(key);
+            values.add(entry);
+        }
+
+        this.keys = keys.toArray(new String[0]);
+        this.values = values.toArray();
+    }
+
+    /**
+     * @return the entry with this key, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    T get(String key) {
+        if (key == null) {
+            return null;
+        }
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? (T) values[index] : null;
+    }
+
+    int size() {
+        return keys.length;
+    }
+}
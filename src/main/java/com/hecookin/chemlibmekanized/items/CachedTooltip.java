@@ -0,0 +1,48 @@
+package com.hecookin.chemlibmekanized.items;
+
+import net.minecraft.network.chat.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * An item's tooltip lines, built on first hover and reused until {@link #invalidateAll()}.
+ *
+ * <p>All caches are invalidated together on client resource reload, which includes every
+ * language change. Lines may be requested from more than one thread (e.g. recipe viewer search
+ * indexing); concurrent first builds produce equal immutable lists, so the race is harmless.</p>
+ */
+public final class CachedTooltip {
+
+    private static volatile int generation = 0;
+
+    private final Supplier<List<Component>> builder;
+    private volatile Lines cached;
+
+    public CachedTooltip(Supplier<List<Component>> builder) {
+        this.builder = builder;
+    }
+
+    private record Lines(int generation, List<Component> components) {
+    }
+
+    /**
+     * @return the immutable tooltip lines, building them if this is the first request since the last invalidation
+     */
+    public List<Component> get() {
+        Lines lines = cached;
+        int current = generation;
+        if (lines == null || lines.generation() != current) {
+            lines = new Lines(current, List.copyOf(builder.get()));
+            cached = lines;
+        }
+        return lines.components();
+    }
+
+    /**
+     * Drop every item's cached lines. Called on the render thread when client resources reload.
+     */
+    public static void invalidateAll() {
+        generation++;
+    }
+}
@@ -3,6 +3,7 @@ package com.hecookin.chemlibmekanized.items;
 import com.hecookin.chemlibmekanized.api.Chemical;
 import com.hecookin.chemlibmekanized.api.ChemicalType;
 import com.hecookin.chemlibmekanized.api.MatterState;
+import com.hecookin.chemlibmekanized.api.ModelTemplate;
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -15,19 +16,28 @@ import net.minecraft.client.Minecraft;
 import org.lwjgl.glfw.GLFW;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ExtractedCompoundItem extends Item implements Chemical {
     private final ChemLibDataExtractor.CompoundData compoundData;
+    private final int color;
+    private final CachedTooltip tooltip = new CachedTooltip(this::buildTooltip);
 
     public ExtractedCompoundItem(ChemLibDataExtractor.CompoundData compoundData) {
         super(new Item.Properties().stacksTo(64));
         this.compoundData = compoundData;
+        this.color = compoundData.argb;
     }
 
     @Override
     public void appendHoverText(ItemStack stack, Item.TooltipContext context, List<Component> tooltipComponents, TooltipFlag isAdvanced) {
         super.appendHoverText(stack, context, tooltipComponents, isAdvanced);
+        tooltipComponents.addAll(tooltip.get());
+    }
+
+    private List<Component> buildTooltip() {
+        List<Component> tooltipComponents = new ArrayList<>();
 
         if (compoundData.description != null && !compoundData.description.isEmpty()) {
             String[] words = compoundData.description.split(" ");
@@ -46,7 +56,7 @@ public class ExtractedCompoundItem extends Item implements Chemical {
             }
         }
 
-        tooltipComponents.add(Component.literal("Matter State: " + compoundData.matterState.toUpperCase())
+        tooltipComponents.add(Component.literal("Matter State: " + compoundData.matterState.name())
                                       .withStyle(ChatFormatting.YELLOW));
 
         if (compoundData.components != null && !compoundData.components.isEmpty()) {
@@ -66,19 +76,16 @@ public class ExtractedCompoundItem extends Item implements Chemical {
                                               .withStyle(ChatFormatting.DARK_PURPLE));
             }
         }
+        return tooltipComponents;
     }
 
     @Override
     public int getColor() {
-        try {
-            return Integer.parseInt(compoundData.color, 16) | 0xFF000000;
-        } catch (NumberFormatException e) {
-            return 0xFFFFFFFF;
-        }
+        return color;
     }
 
     public int getColor(ItemStack itemStack, int tintIndex) {
-        return tintIndex > 0 ? -1 : getColor();
+        return tintIndex > 0 ? -1 : color;
     }
 
     @Override
@@ -93,12 +100,7 @@ public class ExtractedCompoundItem extends Item implements Chemical {
 
     @Override
     public MatterState getMatterState() {
-        return switch(compoundData.matterState.toLowerCase()) {
-            case "solid" -> MatterState.SOLID;
-            case "liquid" -> MatterState.LIQUID;
-            case "gas" -> MatterState.GAS;
-            default -> MatterState.SOLID;
-        };
+        return compoundData.matterState;
     }
 
     @Override
@@ -106,8 +108,13 @@ public class ExtractedCompoundItem extends Item implements Chemical {
         return ChemicalType.COMPOUND;
     }
 
+    @Override
+    public ModelTemplate getModelTemplate() {
+        return compoundData.modelTemplate;
+    }
+
     public String getMatterStateString() {
-        return compoundData.matterState;
+        return compoundData.matterState.getName();
     }
 
     public String getChemicalDescription() {
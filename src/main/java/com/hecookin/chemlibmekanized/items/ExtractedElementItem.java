@@ -3,6 +3,8 @@ package com.hecookin.chemlibmekanized.items;
 import com.hecookin.chemlibmekanized.api.Chemical;
 import com.hecookin.chemlibmekanized.api.ChemicalType;
 import com.hecookin.chemlibmekanized.api.MatterState;
+import com.hecookin.chemlibmekanized.api.MetalType;
+import com.hecookin.chemlibmekanized.api.ModelTemplate;
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -13,29 +15,38 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.effect.MobEffectInstance;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ExtractedElementItem extends Item implements Chemical {
     private final ChemLibDataExtractor.ElementData elementData;
+    private final int color;
+    private final CachedTooltip tooltip = new CachedTooltip(this::buildTooltip);
 
     public ExtractedElementItem(ChemLibDataExtractor.ElementData elementData) {
         super(new Item.Properties().stacksTo(64));
         this.elementData = elementData;
+        this.color = elementData.argb;
     }
 
     @Override
     public void appendHoverText(ItemStack stack, Item.TooltipContext context, List<Component> tooltipComponents, TooltipFlag isAdvanced) {
         super.appendHoverText(stack, context, tooltipComponents, isAdvanced);
+        tooltipComponents.addAll(tooltip.get());
+    }
+
+    private List<Component> buildTooltip() {
+        List<Component> tooltipComponents = new ArrayList<>();
 
         tooltipComponents.add(Component.literal(String.format("%s (%d)", elementData.abbreviation, elementData.atomicNumber))
                                       .withStyle(ChatFormatting.AQUA));
 
         tooltipComponents.add(Component.literal(getGroupName()).withStyle(ChatFormatting.GRAY));
 
-        tooltipComponents.add(Component.literal("Matter State: " + elementData.matterState.toUpperCase())
+        tooltipComponents.add(Component.literal("Matter State: " + elementData.matterState.name())
                                       .withStyle(ChatFormatting.YELLOW));
 
-        tooltipComponents.add(Component.literal("Metal Type: " + elementData.metalType.toUpperCase())
+        tooltipComponents.add(Component.literal("Metal Type: " + elementData.metalType.name())
                                       .withStyle(ChatFormatting.GREEN));
 
         if (elementData.artificial) {
@@ -49,7 +60,7 @@ public class ExtractedElementItem extends Item implements Chemical {
                                               .withStyle(ChatFormatting.DARK_PURPLE));
             }
         }
-
+        return tooltipComponents;
     }
 
     public String getGroupName() {
@@ -71,15 +82,11 @@ public class ExtractedElementItem extends Item implements Chemical {
 
     @Override
     public int getColor() {
-        try {
-            return Integer.parseInt(elementData.color, 16) | 0xFF000000;
-        } catch (NumberFormatException e) {
-            return 0xFFFFFFFF;
-        }
+        return color;
     }
 
     public int getColor(ItemStack itemStack, int tintIndex) {
-        return tintIndex > 0 ? -1 : getColor();
+        return tintIndex > 0 ? -1 : color;
     }
 
     @Override
@@ -94,12 +101,7 @@ public class ExtractedElementItem extends Item implements Chemical {
 
     @Override
     public MatterState getMatterState() {
-        return switch(elementData.matterState.toLowerCase()) {
-            case "solid" -> MatterState.SOLID;
-            case "liquid" -> MatterState.LIQUID;
-            case "gas" -> MatterState.GAS;
-            default -> MatterState.SOLID;
-        };
+        return elementData.matterState;
     }
 
     @Override
@@ -111,11 +113,16 @@ public class ExtractedElementItem extends Item implements Chemical {
         return elementData.atomicNumber;
     }
 
+    @Override
+    public ModelTemplate getModelTemplate() {
+        return elementData.modelTemplate;
+    }
+
     public String getMatterStateString() {
-        return elementData.matterState;
+        return elementData.matterState.getName();
     }
 
-    public String getMetalType() {
+    public MetalType getMetalType() {
         return elementData.metalType;
     }
 
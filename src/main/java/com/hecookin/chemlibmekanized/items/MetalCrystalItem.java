@@ -7,6 +7,7 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -18,6 +19,7 @@ public class MetalCrystalItem extends Item {
     private final String metalName;
     private final String displayName;
     private final int color;
+    private final CachedTooltip tooltip = new CachedTooltip(this::buildTooltip);
 
     public MetalCrystalItem(String metalName, String displayName, int color) {
         super(new Properties().stacksTo(64));
@@ -30,14 +32,7 @@ public class MetalCrystalItem extends Item {
         super(new Properties().stacksTo(64));
         this.metalName = elementData.name;
         this.displayName = formatName(elementData.name);
-        // Parse color from hex string
-        int tempColor;
-        try {
-            tempColor = Integer.parseInt(elementData.color, 16) | 0xFF000000;
-        } catch (NumberFormatException e) {
-            tempColor = 0xFFFFFFFF;
-        }
-        this.color = tempColor;
+        this.color = elementData.argb;
     }
 
     private String formatName(String name) {
@@ -47,11 +42,17 @@ public class MetalCrystalItem extends Item {
 
     @Override
     public void appendHoverText(ItemStack stack, TooltipContext context, List<Component> tooltipComponents, TooltipFlag tooltipFlag) {
+        tooltipComponents.addAll(tooltip.get());
+    }
+
+    private List<Component> buildTooltip() {
+        List<Component> tooltipComponents = new ArrayList<>();
         // Add tooltip showing this is a crystallized form
         tooltipComponents.add(Component.literal("Crystallized " + displayName)
                 .withStyle(ChatFormatting.GRAY));
         tooltipComponents.add(Component.literal("Smelt to obtain ingot")
                 .withStyle(ChatFormatting.DARK_GRAY));
+        return tooltipComponents;
     }
 
     public String getMetalName() {
@@ -1,6 +1,5 @@
 package com.hecookin.chemlibmekanized.items;
 
-import com.hecookin.chemlibmekanized.ChemlibMekanized;
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -8,6 +7,7 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -16,15 +16,23 @@ import java.util.List;
  */
 public class MetalNuggetItem extends Item {
     private final ChemLibDataExtractor.ElementData elementData;
+    private final int color;
+    private final CachedTooltip tooltip = new CachedTooltip(this::buildTooltip);
 
     public MetalNuggetItem(ChemLibDataExtractor.ElementData elementData) {
         super(new Item.Properties().stacksTo(64));
         this.elementData = elementData;
+        this.color = resolveColor(elementData);
     }
 
     @Override
     public void appendHoverText(ItemStack stack, Item.TooltipContext context, List<Component> tooltipComponents, TooltipFlag isAdvanced) {
         super.appendHoverText(stack, context, tooltipComponents, isAdvanced);
+        tooltipComponents.addAll(tooltip.get());
+    }
+
+    private List<Component> buildTooltip() {
+        List<Component> tooltipComponents = new ArrayList<>();
 
         // Element information
         tooltipComponents.add(Component.literal(String.format("%s Nugget (%s)",
@@ -36,12 +44,13 @@ public class MetalNuggetItem extends Item {
                                       .withStyle(ChatFormatting.GRAY));
 
         // Metal classification
-        tooltipComponents.add(Component.literal("Type: " + elementData.metalType.toUpperCase())
+        tooltipComponents.add(Component.literal("Type: " + elementData.metalType.name())
                                       .withStyle(ChatFormatting.GREEN));
 
         // Periodic table group
         tooltipComponents.add(Component.literal("Group: " + elementData.group + " | Period: " + elementData.period)
                                       .withStyle(ChatFormatting.YELLOW));
+        return tooltipComponents;
     }
 
     /**
@@ -55,37 +64,22 @@ public class MetalNuggetItem extends Item {
      * Get the element color for tinting.
      */
     public int getColor() {
-        try {
-            String colorStr = elementData.color;
-
-            // Special handling for promethium to make it more cyan
-            if ("promethium".equals(elementData.name)) {
-                return 0xFF4AAFAA; // Cyan-tinted color for promethium
-            }
-
-            // Handle invalid color formats (like promethium's "62af0a7")
-            if (colorStr.length() == 7) {
-                // Truncate to 6 characters if 7 characters long
-                colorStr = colorStr.substring(0, 6);
-            } else if (colorStr.length() != 6) {
-                // Use a default color for other invalid lengths
-                return 0xFF888888; // Default gray instead of white for visibility
-            }
+        return color;
+    }
 
-            int color = (int) Long.parseLong(colorStr, 16);
-            color |= 0xFF000000; // Add full alpha
-            return color;
-        } catch (NumberFormatException e) {
-            ChemlibMekanized.LOGGER.warn("Invalid color format for element {}: {}", elementData.name, elementData.color);
-            return 0xFF888888; // Default gray instead of white for visibility
+    private static int resolveColor(ChemLibDataExtractor.ElementData elementData) {
+        // Special handling for promethium to make it more cyan
+        if ("promethium".equals(elementData.name)) {
+            return 0xFF4AAFAA; // Cyan-tinted color for promethium
         }
+        return elementData.colorValid ? elementData.argb : 0xFF888888; // Default gray instead of white for visibility
     }
 
     /**
      * Get the color for the color provider system.
      */
     public int getColor(ItemStack itemStack, int tintIndex) {
-        return tintIndex > 0 ? -1 : getColor();
+        return tintIndex > 0 ? -1 : color;
     }
 
     /**
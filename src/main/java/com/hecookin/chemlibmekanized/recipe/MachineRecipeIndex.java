@@ -0,0 +1,192 @@
+package com.hecookin.chemlibmekanized.recipe;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.recipe.MekanismRecipeInputs.Key;
+import com.hecookin.chemlibmekanized.recipe.MekanismRecipeInputs.Sample;
+import mekanism.api.chemical.Chemical;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.material.Fluid;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index from machine inputs to candidate recipes, for every Mekanism recipe type this mod adds recipes to.
+ *
+ * <p>A Pressurized Reaction Chamber or Chemical Dissolution Chamber otherwise tests its inputs against every
+ * recipe of its type, and this mod alone ships thousands of reactions. Here each recipe is filed under every
+ * (item, chemical, fluid) combination its ingredients represent, so a lookup is one hash lookup returning the few
+ * recipes worth testing. Candidates still need the full recipe test (amounts, and telling apart recipes that
+ * share an input).</p>
+ *
+ * <p>Rebuilt on the server thread after every datapack load, once tags are bound (tag ingredients expand through
+ * them), and immutable after that. Indexes every recipe of those types, Mekanism's and other mods' included, so an
+ * empty result means no recipe can match.</p>
+ */
+@EventBusSubscriber(modid = ChemlibMekanized.MODID)
+public final class MachineRecipeIndex {
+
+    private static final MachineRecipeIndex EMPTY = new MachineRecipeIndex(Map.of(), Map.of(), 0);
+
+    private static volatile MachineRecipeIndex instance = EMPTY;
+    private static volatile RecipeManager pending;
+
+    private final Map<RecipeType<?>, Map<Key, List<RecipeHolder<?>>>> byType;
+    private final Map<RecipeType<?>, Inputs> inputs;
+    private final int recipes;
+
+    private MachineRecipeIndex(Map<RecipeType<?>, Map<Key, List<RecipeHolder<?>>>> byType,
+                               Map<RecipeType<?>, Inputs> inputs, int recipes) {
+        this.byType = byType;
+        this.inputs = inputs;
+        this.recipes = recipes;
+    }
+
+    /**
+     * Every object that is an input of at least one recipe of a type (immutable).
+     */
+    public record Inputs(Set<Item> items, Set<Chemical> chemicals, Set<Fluid> fluids) {
+
+        private static final Inputs NONE = new Inputs(Set.of(), Set.of(), Set.of());
+    }
+
+    /**
+     * Get the index for the last loaded datapacks; empty before the first load.
+     */
+    public static MachineRecipeIndex get() {
+        return instance;
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        pending = event.getServerResources().getRecipeManager();
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        RecipeManager recipeManager = pending;
+        if (event.getUpdateCause() != TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD || recipeManager == null) {
+            return;
+        }
+        pending = null;
+        instance = build(recipeManager);
+    }
+
+    /**
+     * Recipes of this type that accept these inputs, in recipe manager order. Pass null for an input kind the
+     * machine has no input of (a dissolution chamber has no fluid); for types with two inputs of one kind
+     * (infusing, rotary) pass only the one being matched.
+     *
+     * @return the candidates, or an empty list if none can match (immutable)
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends Recipe<?>> List<RecipeHolder<R>> candidates(RecipeType<R> type, @Nullable Item item,
+                                                                   @Nullable Chemical chemical, @Nullable Fluid fluid) {
+        Map<Key, List<RecipeHolder<?>>> byKey = byType.get(type);
+        if (byKey == null) {
+            return List.of();
+        }
+        List<RecipeHolder<?>> candidates = byKey.get(new Key(item, chemical, fluid));
+        return candidates != null ? (List<RecipeHolder<R>>) (List<?>) candidates : List.of();
+    }
+
+    /**
+     * @return every item, chemical and fluid some recipe of this type accepts, for input slot validation
+     */
+    public Inputs inputs(RecipeType<?> type) {
+        return inputs.getOrDefault(type, Inputs.NONE);
+    }
+
+    /**
+     * @return the indexed recipe types
+     */
+    public Set<RecipeType<?>> types() {
+        return byType.keySet();
+    }
+
+    /**
+     * @return how many recipes are indexed
+     */
+    public int size() {
+        return recipes;
+    }
+
+    List<RecipeHolder<?>> candidates(RecipeType<?> type, Key key) {
+        return byType.getOrDefault(type, Map.of()).getOrDefault(key, List.of());
+    }
+
+    static MachineRecipeIndex build(RecipeManager recipeManager) {
+        long start = System.nanoTime();
+        Collection<RecipeHolder<?>> all = recipeManager.getRecipes();
+
+        Set<RecipeType<?>> types = new HashSet<>();
+        for (RecipeHolder<?> holder : all) {
+            if (holder.id().getNamespace().equals(ChemlibMekanized.MODID)) {
+                types.add(holder.value().getType());
+            }
+        }
+
+        Map<RecipeType<?>, Map<Key, List<RecipeHolder<?>>>> byType = new HashMap<>();
+        Map<RecipeType<?>, Inputs> inputs = new HashMap<>();
+        int recipes = 0;
+        for (RecipeHolder<?> holder : all) {
+            RecipeType<?> type = holder.value().getType();
+            if (!types.contains(type)) {
+                continue;
+            }
+            List<Sample> samples = MekanismRecipeInputs.samples(holder.value());
+            if (samples.isEmpty()) {
+                continue;
+            }
+            recipes++;
+            Map<Key, List<RecipeHolder<?>>> byKey = byType.computeIfAbsent(type, t -> new HashMap<>());
+            Inputs typeInputs = inputs.computeIfAbsent(type, t -> new Inputs(new HashSet<>(), new HashSet<>(), new HashSet<>()));
+            for (Sample sample : samples) {
+                List<RecipeHolder<?>> candidates = byKey.computeIfAbsent(sample.key(), key -> new ArrayList<>(1));
+                // The same key can come up twice for one recipe, e.g. an infusion of a chemical with itself
+                if (candidates.isEmpty() || candidates.getLast() != holder) {
+                    candidates.add(holder);
+                }
+                addIfPresent(typeInputs.items(), sample.key().item());
+                addIfPresent(typeInputs.chemicals(), sample.key().chemical());
+                addIfPresent(typeInputs.fluids(), sample.key().fluid());
+            }
+        }
+
+        Map<RecipeType<?>, Map<Key, List<RecipeHolder<?>>>> frozen = new HashMap<>();
+        byType.forEach((type, byKey) -> {
+            Map<Key, List<RecipeHolder<?>>> frozenByKey = new HashMap<>();
+            byKey.forEach((key, candidates) -> frozenByKey.put(key, List.copyOf(candidates)));
+            frozen.put(type, Map.copyOf(frozenByKey));
+        });
+        Map<RecipeType<?>, Inputs> frozenInputs = new HashMap<>();
+        inputs.forEach((type, typeInputs) -> frozenInputs.put(type,
+            new Inputs(Set.copyOf(typeInputs.items()), Set.copyOf(typeInputs.chemicals()), Set.copyOf(typeInputs.fluids()))));
+
+        MachineRecipeIndex index = new MachineRecipeIndex(Map.copyOf(frozen), Map.copyOf(frozenInputs), recipes);
+        int keys = frozen.values().stream().mapToInt(Map::size).sum();
+        ChemlibMekanized.LOGGER.info("Indexed {} machine recipes of {} types under {} input keys in {} ms",
+            recipes, frozen.size(), keys, (System.nanoTime() - start) / 1_000_000L);
+        return index;
+    }
+
+    private static <T> void addIfPresent(Set<T> set, @Nullable T value) {
+        if (value != null) {
+            set.add(value);
+        }
+    }
+}
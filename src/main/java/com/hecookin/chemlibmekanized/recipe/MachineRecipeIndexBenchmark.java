@@ -0,0 +1,103 @@
+package com.hecookin.chemlibmekanized.recipe;
+
+import com.hecookin.chemlibmekanized.recipe.MekanismRecipeInputs.Sample;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compares finding a matching recipe for real machine inputs by scanning every recipe of the machine's type,
+ * as a machine without an input cache does, against testing only the {@link MachineRecipeIndex} candidates.
+ * Used by /chemlib benchmark recipes.
+ */
+public final class MachineRecipeIndexBenchmark {
+
+    private MachineRecipeIndexBenchmark() {
+    }
+
+    private record Query(RecipeType<?> type, Sample sample) {
+    }
+
+    /**
+     * Run both matchers over one query per input combination of every indexed recipe.
+     *
+     * @return a one-line summary with matches per second for both
+     */
+    public static String run(RecipeManager recipeManager, MachineRecipeIndex index, int iterations) {
+        Map<RecipeType<?>, List<RecipeHolder<?>>> byType = new HashMap<>();
+        List<Query> queries = new ArrayList<>();
+        for (RecipeHolder<?> holder : recipeManager.getRecipes()) {
+            RecipeType<?> type = holder.value().getType();
+            if (index.types().contains(type)) {
+                byType.computeIfAbsent(type, t -> new ArrayList<>()).add(holder);
+                for (Sample sample : MekanismRecipeInputs.samples(holder.value())) {
+                    queries.add(new Query(type, sample));
+                }
+            }
+        }
+        if (queries.isEmpty()) {
+            return "No indexed machine recipes - nothing to benchmark";
+        }
+
+        // Sanity check: both matchers must agree before their timings mean anything
+        int scanned = scanPass(queries, byType);
+        int indexed = indexPass(queries, index);
+        if (scanned != indexed) {
+            return "Matchers disagree: scan matched " + scanned + " queries, index matched " + indexed;
+        }
+
+        // Warm up so the JIT has compiled both paths before measuring
+        for (int i = 0; i < Math.max(1, iterations / 10); i++) {
+            scanPass(queries, byType);
+            indexPass(queries, index);
+        }
+
+        long scanStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            scanPass(queries, byType);
+        }
+        long scanNanos = System.nanoTime() - scanStart;
+
+        long indexStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            indexPass(queries, index);
+        }
+        long indexNanos = System.nanoTime() - indexStart;
+
+        long lookups = (long) queries.size() * iterations;
+        double scanRate = lookups * 1e9 / Math.max(1, scanNanos);
+        double indexRate = lookups * 1e9 / Math.max(1, indexNanos);
+        return String.format(Locale.ROOT,
+            "Recipe matching: %d queries over %d recipes x %d iterations - scan %.0f matches/s, index %.0f matches/s (%.1fx)",
+            queries.size(), index.size(), iterations, scanRate, indexRate, indexRate / scanRate);
+    }
+
+    private static int scanPass(List<Query> queries, Map<RecipeType<?>, List<RecipeHolder<?>>> byType) {
+        return matchAll(queries, query -> byType.get(query.type()));
+    }
+
+    private static int indexPass(List<Query> queries, MachineRecipeIndex index) {
+        return matchAll(queries, query -> index.candidates(query.type(), query.sample().key()));
+    }
+
+    private static int matchAll(List<Query> queries, Function<Query, Collection<RecipeHolder<?>>> recipes) {
+        int matched = 0;
+        for (Query query : queries) {
+            for (RecipeHolder<?> holder : recipes.apply(query)) {
+                if (MekanismRecipeInputs.matches(holder.value(), query.sample())) {
+                    matched++;
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+}
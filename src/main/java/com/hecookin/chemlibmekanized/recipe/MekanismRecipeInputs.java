@@ -0,0 +1,127 @@
+package com.hecookin.chemlibmekanized.recipe;
+
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.recipes.ChemicalChemicalToChemicalRecipe;
+import mekanism.api.recipes.ChemicalCrystallizerRecipe;
+import mekanism.api.recipes.ChemicalDissolutionRecipe;
+import mekanism.api.recipes.FluidChemicalToChemicalRecipe;
+import mekanism.api.recipes.FluidToFluidRecipe;
+import mekanism.api.recipes.ItemStackToChemicalRecipe;
+import mekanism.api.recipes.PressurizedReactionRecipe;
+import mekanism.api.recipes.RotaryRecipe;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.level.material.Fluid;
+import net.neoforged.neoforge.fluids.FluidStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What the Mekanism machine recipes this mod ships accept as input: reaction, dissolution, washing, crystallizing,
+ * chemical infusing, rotary, oxidizing and evaporating.
+ *
+ * <p>Each recipe is flattened into {@link Sample}s, one per combination of represented input (a tag ingredient has
+ * one representation per tagged object). A recipe with two inputs of the same kind (infusing, both rotary
+ * directions) gets a sample per input instead, and the full recipe test tells them apart.</p>
+ */
+final class MekanismRecipeInputs {
+
+    private MekanismRecipeInputs() {
+    }
+
+    /**
+     * The input objects a machine matches on; null where the recipe has no input of that kind.
+     */
+    record Key(@Nullable Item item, @Nullable Chemical chemical, @Nullable Fluid fluid) {
+    }
+
+    /**
+     * A key with the represented stacks it came from, to test recipes against.
+     */
+    record Sample(Key key, @Nullable ItemStack item, @Nullable ChemicalStack chemical, @Nullable FluidStack fluid) {
+    }
+
+    /**
+     * @return every input combination this recipe accepts, or an empty list for recipes of other classes
+     */
+    static List<Sample> samples(Recipe<?> recipe) {
+        return switch (recipe) {
+            case PressurizedReactionRecipe reaction -> combine(reaction.getInputSolid().getRepresentations(),
+                reaction.getInputChemical().getRepresentations(), reaction.getInputFluid().getRepresentations());
+            case ChemicalDissolutionRecipe dissolution -> combine(dissolution.getItemInput().getRepresentations(),
+                dissolution.getChemicalInput().getRepresentations(), null);
+            case FluidChemicalToChemicalRecipe washing -> combine(null,
+                washing.getChemicalInput().getRepresentations(), washing.getFluidInput().getRepresentations());
+            case ChemicalCrystallizerRecipe crystallizing -> combine(null, crystallizing.getInput().getRepresentations(), null);
+            case ChemicalChemicalToChemicalRecipe infusing -> concat(
+                combine(null, infusing.getLeftInput().getRepresentations(), null),
+                combine(null, infusing.getRightInput().getRepresentations(), null));
+            case RotaryRecipe rotary -> concat(
+                rotary.hasChemicalToFluid() ? combine(null, rotary.getChemicalInput().getRepresentations(), null) : List.of(),
+                rotary.hasFluidToChemical() ? combine(null, null, rotary.getFluidInput().getRepresentations()) : List.of());
+            case ItemStackToChemicalRecipe oxidizing -> combine(oxidizing.getInput().getRepresentations(), null, null);
+            case FluidToFluidRecipe evaporating -> combine(null, null, evaporating.getInput().getRepresentations());
+            default -> List.of();
+        };
+    }
+
+    /**
+     * Test a recipe's ingredients against a sample's input types, as a machine does before checking amounts.
+     */
+    static boolean matches(Recipe<?> recipe, Sample sample) {
+        ItemStack item = sample.item();
+        ChemicalStack chemical = sample.chemical();
+        FluidStack fluid = sample.fluid();
+        return switch (recipe) {
+            case PressurizedReactionRecipe reaction -> item != null && chemical != null && fluid != null
+                && reaction.getInputSolid().testType(item) && reaction.getInputChemical().testType(chemical)
+                && reaction.getInputFluid().testType(fluid);
+            case ChemicalDissolutionRecipe dissolution -> item != null && chemical != null
+                && dissolution.getItemInput().testType(item) && dissolution.getChemicalInput().testType(chemical);
+            case FluidChemicalToChemicalRecipe washing -> chemical != null && fluid != null
+                && washing.getChemicalInput().testType(chemical) && washing.getFluidInput().testType(fluid);
+            case ChemicalCrystallizerRecipe crystallizing -> chemical != null && crystallizing.getInput().testType(chemical);
+            case ChemicalChemicalToChemicalRecipe infusing -> chemical != null
+                && (infusing.getLeftInput().testType(chemical) || infusing.getRightInput().testType(chemical));
+            case RotaryRecipe rotary -> (chemical != null && rotary.hasChemicalToFluid() && rotary.getChemicalInput().testType(chemical))
+                || (fluid != null && rotary.hasFluidToChemical() && rotary.getFluidInput().testType(fluid));
+            case ItemStackToChemicalRecipe oxidizing -> item != null && oxidizing.getInput().testType(item);
+            case FluidToFluidRecipe evaporating -> fluid != null && evaporating.getInput().testType(fluid);
+            default -> false;
+        };
+    }
+
+    /**
+     * Every combination of the given representations; a null list means the recipe has no input of that kind.
+     */
+    private static List<Sample> combine(@Nullable List<ItemStack> items, @Nullable List<ChemicalStack> chemicals,
+                                        @Nullable List<FluidStack> fluids) {
+        List<Sample> samples = new ArrayList<>();
+        for (ItemStack item : orAbsent(items)) {
+            for (ChemicalStack chemical : orAbsent(chemicals)) {
+                for (FluidStack fluid : orAbsent(fluids)) {
+                    Key key = new Key(item != null ? item.getItem() : null,
+                        chemical != null ? chemical.getChemical() : null,
+                        fluid != null ? fluid.getFluid() : null);
+                    samples.add(new Sample(key, item, chemical, fluid));
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static <T> List<T> orAbsent(@Nullable List<T> representations) {
+        return representations != null ? representations : Collections.singletonList(null);
+    }
+
+    private static List<Sample> concat(List<Sample> first, List<Sample> second) {
+        List<Sample> samples = new ArrayList<>(first);
+        samples.addAll(second);
+        return samples;
+    }
+}
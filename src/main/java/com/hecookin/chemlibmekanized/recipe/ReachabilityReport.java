@@ -0,0 +1,162 @@
+package com.hecookin.chemlibmekanized.recipe;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.hecookin.chemlibmekanized.recipe.RecipeGraph.Derivation;
+import com.hecookin.chemlibmekanized.recipe.RecipeGraph.Metric;
+import com.hecookin.chemlibmekanized.recipe.RecipeGraph.Node;
+import com.hecookin.chemlibmekanized.registry.ChemLibCrossReference;
+import com.hecookin.chemlibmekanized.registry.ChemLibCrossReference.Form;
+import com.hecookin.chemlibmekanized.registry.ChemLibCrossReference.Forms;
+import com.hecookin.chemlibmekanized.registry.ChemLibItemRegistry;
+import mekanism.api.MekanismAPI;
+import mekanism.api.chemical.Chemical;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Whether every element, compound, slurry and crystal this mod registers can be obtained through the loaded recipes,
+ * and how: steps deep, and the cheapest chain's ticks, energy and final recipe. Computed from a {@link RecipeGraph}
+ * snapshot, so it can run off the server thread. Written by /chemlib analyze.
+ */
+public final class ReachabilityReport {
+
+    public static final String CSV_FILE = "chemlib_analysis.csv";
+    public static final String JSON_FILE = "chemlib_analysis.json";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+    private static final List<Form> FORMS = List.of(Form.ITEM, Form.DIRTY_SLURRY, Form.CLEAN_SLURRY, Form.CRYSTAL);
+
+    /**
+     * One registered object. Costs are -1 when it cannot be obtained.
+     *
+     * @param recipe the recipe making it at the end of the fewest-steps chain, or null
+     */
+    public record Row(String material, String category, Form form, Node node, boolean obtainable, long steps,
+                      long ticks, long energy, String recipe) {
+    }
+
+    private final List<Row> rows;
+    private final List<String> deadEnds;
+
+    private ReachabilityReport(List<Row> rows, List<String> deadEnds) {
+        this.rows = List.copyOf(rows);
+        this.deadEnds = List.copyOf(deadEnds);
+    }
+
+    /**
+     * Analyze every element, compound, slurry and crystal in the cross-reference against this graph.
+     */
+    public static ReachabilityReport analyze(RecipeGraph graph, ChemLibCrossReference crossReference) {
+        List<Row> rows = new ArrayList<>();
+        for (Forms forms : crossReference.all()) {
+            String material = forms.material();
+            String category = ChemLibItemRegistry.ELEMENT_ITEMS.containsKey(material) ? "element"
+                : ChemLibItemRegistry.COMPOUND_ITEMS.containsKey(material) ? "compound" : "material";
+            for (Form form : FORMS) {
+                Node node = node(forms.get(form));
+                if (node == null) {
+                    continue;
+                }
+                Optional<Derivation> steps = graph.derivation(node, Metric.STEPS);
+                rows.add(new Row(material, category, form, node, steps.isPresent(),
+                    steps.map(Derivation::cost).orElse(-1L),
+                    graph.derivation(node, Metric.TICKS).map(Derivation::cost).orElse(-1L),
+                    graph.derivation(node, Metric.ENERGY).map(Derivation::cost).orElse(-1L),
+                    steps.filter(derivation -> !derivation.isRaw()).map(derivation -> derivation.edge().recipe().toString()).orElse(null)));
+            }
+        }
+        rows.sort(Comparator.comparing(Row::category).thenComparing(Row::material).thenComparing(Row::form));
+
+        List<String> deadEnds = graph.deadEnds().stream()
+            .map(edge -> edge.recipe().toString())
+            .distinct()
+            .sorted()
+            .toList();
+        return new ReachabilityReport(rows, deadEnds);
+    }
+
+    public List<Row> rows() {
+        return rows;
+    }
+
+    /**
+     * @return the ids of recipes that can never run, sorted
+     */
+    public List<String> deadEnds() {
+        return deadEnds;
+    }
+
+    /**
+     * @return how many rows can be obtained
+     */
+    public long obtainable() {
+        return rows.stream().filter(Row::obtainable).count();
+    }
+
+    /**
+     * Write {@link #CSV_FILE} (one line per row) and {@link #JSON_FILE} (rows, totals and dead-end recipes)
+     * into this directory.
+     */
+    public void write(Path directory) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(CSV_FILE), StandardCharsets.UTF_8)) {
+            writer.write("material,category,form,id,obtainable,steps,ticks,energy,recipe\n");
+            for (Row row : rows) {
+                writer.write(String.join(",", row.material(), row.category(), row.form().name().toLowerCase(Locale.ROOT),
+                    row.node().id().toString(), Boolean.toString(row.obtainable()), Long.toString(row.steps()),
+                    Long.toString(row.ticks()), Long.toString(row.energy()), row.recipe() != null ? row.recipe() : ""));
+                writer.write('\n');
+            }
+        }
+
+        JsonObject json = new JsonObject();
+        json.addProperty("total", rows.size());
+        json.addProperty("obtainable", obtainable());
+        JsonArray rowsJson = new JsonArray();
+        for (Row row : rows) {
+            JsonObject rowJson = new JsonObject();
+            rowJson.addProperty("material", row.material());
+            rowJson.addProperty("category", row.category());
+            rowJson.addProperty("form", row.form().name().toLowerCase(Locale.ROOT));
+            rowJson.addProperty("id", row.node().id().toString());
+            rowJson.addProperty("obtainable", row.obtainable());
+            if (row.obtainable()) {
+                rowJson.addProperty("steps", row.steps());
+                rowJson.addProperty("ticks", row.ticks());
+                rowJson.addProperty("energy", row.energy());
+                rowJson.addProperty("recipe", row.recipe());
+            }
+            rowsJson.add(rowJson);
+        }
+        json.add("rows", rowsJson);
+        JsonArray deadEndsJson = new JsonArray();
+        deadEnds.forEach(deadEndsJson::add);
+        json.add("dead_end_recipes", deadEndsJson);
+
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(JSON_FILE), StandardCharsets.UTF_8)) {
+            GSON.toJson(json, writer);
+        }
+    }
+
+    private static Node node(Object form) {
+        if (form instanceof Item item) {
+            return new Node(Node.Kind.ITEM, BuiltInRegistries.ITEM.getKey(item));
+        } else if (form instanceof Chemical chemical) {
+            return new Node(Node.Kind.CHEMICAL, MekanismAPI.CHEMICAL_REGISTRY.getKey(chemical));
+        }
+        return null;
+    }
+}
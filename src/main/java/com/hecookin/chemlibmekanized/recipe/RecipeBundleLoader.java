@@ -0,0 +1,155 @@
+package com.hecookin.chemlibmekanized.recipe;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.JsonOps;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.resources.FileToIdConverter;
+import net.minecraft.resources.RegistryOps;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Loads recipes packed as JSON lines, one bundle per recipe type, from {@code data/<namespace>/recipe_bundle/*.jsonl}.
+ * Each line is {@code {"id": "<path under recipe/>", "recipe": {...}}}; see {@code ChemLibRecipeProvider} for how
+ * bundles are generated.
+ *
+ * <p>One bundle replaces hundreds of resource lookups, file opens and parses with one stream per recipe type.
+ * Bundles are read and parsed off-thread during the prepare phase and decoded into the {@link RecipeManager}
+ * after it has applied the individual recipe files (reload listeners added here apply after vanilla's, in order).
+ * A bundled recipe whose id also exists as an individual {@code recipe/...json} file is skipped, whether or not that
+ * file loaded, so datapacks can still override any recipe the usual way - including disabling it with a file whose
+ * {@code neoforge:conditions} are false.</p>
+ */
+@EventBusSubscriber(modid = ChemlibMekanized.MODID)
+public class RecipeBundleLoader extends SimplePreparableReloadListener<RecipeBundleLoader.Bundles> {
+
+    public static final String DIRECTORY = "recipe_bundle";
+    public static final String EXTENSION = ".jsonl";
+    private static final FileToIdConverter RECIPE_FILES = FileToIdConverter.json("recipe");
+
+    private final RecipeManager recipeManager;
+    private final HolderLookup.Provider registries;
+
+    private RecipeBundleLoader(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        this.recipeManager = recipeManager;
+        this.registries = registries;
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new RecipeBundleLoader(event.getServerResources().getRecipeManager(), event.getRegistryAccess()));
+    }
+
+    /**
+     * Parsed bundle lines in bundle order, the ids of all individual recipe files, and how long reading them took.
+     */
+    record Bundles(List<Map.Entry<ResourceLocation, JsonObject>> recipes, Set<ResourceLocation> recipeFiles, int files, long prepareNanos) {
+    }
+
+    @Override
+    protected Bundles prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+        long start = System.nanoTime();
+        Map<ResourceLocation, Resource> files = listBundles(resourceManager);
+        if (files.isEmpty()) {
+            return new Bundles(List.of(), Set.of(), 0, System.nanoTime() - start);
+        }
+        return new Bundles(read(files), listRecipeFiles(resourceManager), files.size(), System.nanoTime() - start);
+    }
+
+    static Map<ResourceLocation, Resource> listBundles(ResourceManager resourceManager) {
+        return resourceManager.listResources(DIRECTORY, path -> path.getPath().endsWith(EXTENSION));
+    }
+
+    /**
+     * Ids of every {@code recipe/*.json} file in any namespace. This is a listing only; the files are not opened.
+     */
+    static Set<ResourceLocation> listRecipeFiles(ResourceManager resourceManager) {
+        return RECIPE_FILES.listMatchingResources(resourceManager).keySet().stream()
+            .map(RECIPE_FILES::fileToId)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Parse every line of these bundles into (recipe id, recipe json) pairs, in bundle order.
+     * A bundle that cannot be read is logged and skipped.
+     */
+    static List<Map.Entry<ResourceLocation, JsonObject>> read(Map<ResourceLocation, Resource> files) {
+        List<Map.Entry<ResourceLocation, JsonObject>> recipes = new ArrayList<>();
+        for (Map.Entry<ResourceLocation, Resource> file : files.entrySet()) {
+            String namespace = file.getKey().getNamespace();
+            try (BufferedReader reader = file.getValue().openAsReader()) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                    ResourceLocation id = ResourceLocation.fromNamespaceAndPath(namespace, entry.get("id").getAsString());
+                    recipes.add(Map.entry(id, entry.getAsJsonObject("recipe")));
+                }
+            } catch (IOException | RuntimeException e) {
+                ChemlibMekanized.LOGGER.error("Failed to read recipe bundle {}", file.getKey(), e);
+            }
+        }
+        return recipes;
+    }
+
+    @Override
+    protected void apply(Bundles bundles, ResourceManager resourceManager, ProfilerFiller profiler) {
+        if (bundles.files() == 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        RegistryOps<JsonElement> ops = registries.createSerializationContext(JsonOps.INSTANCE);
+        List<RecipeHolder<?>> bundled = new ArrayList<>(bundles.recipes().size());
+        int overridden = 0;
+        int failed = 0;
+        for (Map.Entry<ResourceLocation, JsonObject> entry : bundles.recipes()) {
+            ResourceLocation id = entry.getKey();
+            if (bundles.recipeFiles().contains(id)) {
+                // An individual recipe file with the same id wins, even one whose conditions disabled it
+                overridden++;
+                continue;
+            }
+            DataResult<Recipe<?>> result = Recipe.CODEC.parse(ops, entry.getValue());
+            if (result.isSuccess()) {
+                bundled.add(new RecipeHolder<>(id, result.getOrThrow()));
+            } else {
+                failed++;
+                ChemlibMekanized.LOGGER.error("Skipping bundled recipe {}: {}", id, result.error().map(DataResult.Error::message).orElse(""));
+            }
+        }
+
+        if (!bundled.isEmpty()) {
+            List<RecipeHolder<?>> recipes = new ArrayList<>(recipeManager.getRecipes());
+            recipes.addAll(bundled);
+            recipeManager.replaceRecipes(recipes);
+        }
+
+        ChemlibMekanized.LOGGER.info("Loaded {} bundled recipes from {} bundles ({} overridden by recipe files, {} failed) - read {} ms, decode {} ms",
+            bundled.size(), bundles.files(), overridden, failed,
+            bundles.prepareNanos() / 1_000_000L, (System.nanoTime() - start) / 1_000_000L);
+    }
+}
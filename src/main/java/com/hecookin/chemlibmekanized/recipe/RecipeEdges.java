@@ -0,0 +1,174 @@
+package com.hecookin.chemlibmekanized.recipe;
+
+import com.hecookin.chemlibmekanized.recipe.RecipeGraph.Edge;
+import com.hecookin.chemlibmekanized.recipe.RecipeGraph.Node;
+import mekanism.api.MekanismAPI;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.recipes.ChemicalChemicalToChemicalRecipe;
+import mekanism.api.recipes.ChemicalCrystallizerRecipe;
+import mekanism.api.recipes.ChemicalDissolutionRecipe;
+import mekanism.api.recipes.FluidChemicalToChemicalRecipe;
+import mekanism.api.recipes.FluidToFluidRecipe;
+import mekanism.api.recipes.ItemStackToChemicalRecipe;
+import mekanism.api.recipes.PressurizedReactionRecipe;
+import mekanism.api.recipes.RotaryRecipe;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.AbstractCookingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.neoforged.neoforge.fluids.FluidStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Turns a loaded recipe into {@link RecipeGraph} edges: what it consumes, what it makes, and what one operation costs.
+ *
+ * <p>Costs are a planning model, not a simulation: one operation of an un-upgraded machine at Mekanism's default
+ * energy usage. Reactions use their own duration and extra energy; furnace recipes their cooking time and no
+ * energy; crafting is free. Amounts are ignored.</p>
+ */
+final class RecipeEdges {
+
+    // Mekanism default operation time (ticks) and base energy usage (J/t) per machine
+    private static final int DISSOLUTION_TICKS = 100;
+    private static final long DISSOLUTION_USAGE = 400;
+    private static final int WASHING_TICKS = 10;
+    private static final long WASHING_USAGE = 200;
+    private static final int CRYSTALLIZING_TICKS = 200;
+    private static final long CRYSTALLIZING_USAGE = 400;
+    private static final int INFUSING_TICKS = 1;
+    private static final long INFUSING_USAGE = 200;
+    private static final int ROTARY_TICKS = 1;
+    private static final long ROTARY_USAGE = 50;
+    private static final int OXIDIZING_TICKS = 100;
+    private static final long OXIDIZING_USAGE = 200;
+    private static final long REACTION_USAGE = 100;
+    // Thermal evaporation runs on heat
+    private static final int EVAPORATING_TICKS = 1;
+
+    private RecipeEdges() {
+    }
+
+    /**
+     * @return the edges for this recipe (two for a rotary recipe that works both ways), or none if its class is not
+     * one the graph understands or it has no inputs or outputs
+     */
+    static List<Edge> of(RecipeHolder<?> holder, HolderLookup.Provider registries) {
+        ResourceLocation id = holder.id();
+        ResourceLocation type = BuiltInRegistries.RECIPE_TYPE.getKey(holder.value().getType());
+        List<Edge> edges = new ArrayList<>(1);
+        switch (holder.value()) {
+            case PressurizedReactionRecipe reaction -> {
+                List<Node> outputs = new ArrayList<>();
+                reaction.getOutputDefinition().forEach(output -> {
+                    outputs.add(item(output.item()));
+                    outputs.add(chemical(output.chemical()));
+                });
+                add(edges, id, type, List.of(items(reaction.getInputSolid().getRepresentations()),
+                        chemicals(reaction.getInputChemical().getRepresentations()), fluids(reaction.getInputFluid().getRepresentations())),
+                    outputs, reaction.getDuration(), (REACTION_USAGE + reaction.getEnergyRequired()) * reaction.getDuration());
+            }
+            case ChemicalDissolutionRecipe dissolution -> add(edges, id, type,
+                List.of(items(dissolution.getItemInput().getRepresentations()), chemicals(dissolution.getChemicalInput().getRepresentations())),
+                map(dissolution.getOutputDefinition(), RecipeEdges::chemical), DISSOLUTION_TICKS, DISSOLUTION_USAGE * DISSOLUTION_TICKS);
+            case FluidChemicalToChemicalRecipe washing -> add(edges, id, type,
+                List.of(fluids(washing.getFluidInput().getRepresentations()), chemicals(washing.getChemicalInput().getRepresentations())),
+                map(washing.getOutputDefinition(), RecipeEdges::chemical), WASHING_TICKS, WASHING_USAGE * WASHING_TICKS);
+            case ChemicalCrystallizerRecipe crystallizing -> add(edges, id, type,
+                List.of(chemicals(crystallizing.getInput().getRepresentations())),
+                map(crystallizing.getOutputDefinition(), RecipeEdges::item), CRYSTALLIZING_TICKS, CRYSTALLIZING_USAGE * CRYSTALLIZING_TICKS);
+            case ChemicalChemicalToChemicalRecipe infusing -> add(edges, id, type,
+                List.of(chemicals(infusing.getLeftInput().getRepresentations()), chemicals(infusing.getRightInput().getRepresentations())),
+                map(infusing.getOutputDefinition(), RecipeEdges::chemical), INFUSING_TICKS, INFUSING_USAGE * INFUSING_TICKS);
+            case RotaryRecipe rotary -> {
+                if (rotary.hasChemicalToFluid()) {
+                    add(edges, id, type, List.of(chemicals(rotary.getChemicalInput().getRepresentations())),
+                        map(rotary.getFluidOutputDefinition(), RecipeEdges::fluid), ROTARY_TICKS, ROTARY_USAGE * ROTARY_TICKS);
+                }
+                if (rotary.hasFluidToChemical()) {
+                    add(edges, id, type, List.of(fluids(rotary.getFluidInput().getRepresentations())),
+                        map(rotary.getChemicalOutputDefinition(), RecipeEdges::chemical), ROTARY_TICKS, ROTARY_USAGE * ROTARY_TICKS);
+                }
+            }
+            case ItemStackToChemicalRecipe oxidizing -> add(edges, id, type,
+                List.of(items(oxidizing.getInput().getRepresentations())),
+                map(oxidizing.getOutputDefinition(), RecipeEdges::chemical), OXIDIZING_TICKS, OXIDIZING_USAGE * OXIDIZING_TICKS);
+            case FluidToFluidRecipe evaporating -> add(edges, id, type,
+                List.of(fluids(evaporating.getInput().getRepresentations())),
+                map(evaporating.getOutputDefinition(), RecipeEdges::fluid), EVAPORATING_TICKS, 0);
+            case Recipe<?> recipe when !recipe.isSpecial() -> {
+                List<Set<Node>> inputs = new ArrayList<>();
+                for (Ingredient ingredient : recipe.getIngredients()) {
+                    if (!ingredient.isEmpty()) {
+                        inputs.add(items(Arrays.asList(ingredient.getItems())));
+                    }
+                }
+                ItemStack result = recipe.getResultItem(registries);
+                int ticks = recipe instanceof AbstractCookingRecipe cooking ? cooking.getCookingTime() : 0;
+                add(edges, id, type, inputs, result.isEmpty() ? List.of() : List.of(item(result)), ticks, 0);
+            }
+            default -> {
+            }
+        }
+        return edges;
+    }
+
+    private static void add(List<Edge> edges, ResourceLocation id, ResourceLocation type, List<Set<Node>> inputs,
+                            List<Node> outputs, int ticks, long energy) {
+        List<Node> made = outputs.stream().filter(Objects::nonNull).distinct().toList();
+        if (made.isEmpty() || inputs.isEmpty() || inputs.stream().anyMatch(Set::isEmpty)) {
+            // Nothing to link: special recipes, or an ingredient whose tag is empty
+            return;
+        }
+        edges.add(new Edge(id, type, inputs.stream().map(Set::copyOf).toList(), made, ticks, energy));
+    }
+
+    private static Set<Node> items(List<ItemStack> stacks) {
+        return nodes(stacks, RecipeEdges::item);
+    }
+
+    private static Set<Node> chemicals(List<ChemicalStack> stacks) {
+        return nodes(stacks, RecipeEdges::chemical);
+    }
+
+    private static Set<Node> fluids(List<FluidStack> stacks) {
+        return nodes(stacks, RecipeEdges::fluid);
+    }
+
+    private static <T> Set<Node> nodes(List<T> stacks, Function<T, Node> toNode) {
+        Set<Node> nodes = new LinkedHashSet<>();
+        for (T stack : stacks) {
+            Node node = toNode.apply(stack);
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    private static <T> List<Node> map(List<T> stacks, Function<T, Node> toNode) {
+        return stacks.stream().map(toNode).toList();
+    }
+
+    private static Node item(ItemStack stack) {
+        return stack.isEmpty() ? null : new Node(Node.Kind.ITEM, BuiltInRegistries.ITEM.getKey(stack.getItem()));
+    }
+
+    private static Node chemical(ChemicalStack stack) {
+        return stack.isEmpty() ? null : new Node(Node.Kind.CHEMICAL, MekanismAPI.CHEMICAL_REGISTRY.getKey(stack.getChemical()));
+    }
+
+    private static Node fluid(FluidStack stack) {
+        return stack.isEmpty() ? null : new Node(Node.Kind.FLUID, BuiltInRegistries.FLUID.getKey(stack.getFluid()));
+    }
+}
@@ -0,0 +1,458 @@
+package com.hecookin.chemlibmekanized.recipe;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Directed graph of every loaded recipe: items, chemicals and fluids are nodes, and each recipe is an edge from all
+ * of its inputs to all of its outputs. Answers the production-chain questions without scanning recipe JSON:
+ * which recipe chains lead to something ({@link #paths}), the cheapest way to make it in ticks, energy or steps
+ * ({@link #cheapest}), and which outputs no chain can reach ({@link #unreachable()}, {@link #deadEnds()}).
+ *
+ * <p>Anything from another namespace (vanilla items, Mekanism chemicals, water) counts as a raw material that is
+ * available; everything of ours has to be made by a recipe chain starting from raw materials. The cheapest
+ * derivation of every node is found in one pass per metric (Knuth's generalization of Dijkstra's algorithm to
+ * recipes that need all of their inputs), computed on first query and cached with the graph.</p>
+ *
+ * <p>Rebuilt after every datapack load, once tags are bound. The new recipes are diffed against the previous
+ * graph by id: if nothing changed the previous graph, analyses included, is kept as is; otherwise only the
+ * adjacency of added, removed and changed recipes is patched and the analyses are recomputed on demand.
+ * Each graph is immutable, so queries may run off-thread.</p>
+ */
+@EventBusSubscriber(modid = ChemlibMekanized.MODID)
+public final class RecipeGraph {
+
+    private static final RecipeGraph EMPTY = new RecipeGraph(Map.of(), Map.of(), Map.of());
+
+    private static volatile RecipeGraph instance = EMPTY;
+    private static volatile RecipeManager pending;
+
+    /**
+     * An item, chemical or fluid.
+     */
+    public record Node(Kind kind, ResourceLocation id) {
+
+        public enum Kind {
+            ITEM,
+            CHEMICAL,
+            FLUID
+        }
+
+        @Override
+        public String toString() {
+            return kind.name().toLowerCase(Locale.ROOT) + " " + id;
+        }
+    }
+
+    /**
+     * One way a recipe runs: it needs one node out of each input set and makes every output.
+     *
+     * @param ticks  one operation's duration in the model of {@code RecipeEdges}
+     * @param energy one operation's energy in joules in the same model
+     */
+    public record Edge(ResourceLocation recipe, ResourceLocation type, List<Set<Node>> inputs, List<Node> outputs,
+                       int ticks, long energy) {
+    }
+
+    /**
+     * What a chain of recipes is measured by.
+     */
+    public enum Metric {
+        /** Total machine ticks of every recipe in the chain */
+        TICKS,
+        /** Total joules of every recipe in the chain */
+        ENERGY,
+        /** Recipes on the longest branch of the chain, i.e. how many processing steps deep the node is */
+        STEPS;
+
+        long cost(Edge edge) {
+            return switch (this) {
+                case TICKS -> edge.ticks();
+                case ENERGY -> edge.energy();
+                case STEPS -> 1;
+            };
+        }
+
+        long combine(long inputs, long input) {
+            return this == STEPS ? Math.max(inputs, input) : inputs + input;
+        }
+    }
+
+    /**
+     * The cheapest way found to have a node: its cost, and the recipe making it (null for raw materials).
+     */
+    public record Derivation(Node node, long cost, Edge edge) {
+
+        public boolean isRaw() {
+            return edge == null;
+        }
+    }
+
+    /**
+     * A chain of recipes making a target, ordered so every recipe comes after the ones making its inputs.
+     */
+    public record Path(Node target, Metric metric, long cost, List<Edge> recipes) {
+    }
+
+    private final Map<ResourceLocation, List<Edge>> edgesByRecipe;
+    private final Map<Node, List<Edge>> producers;
+    private final Map<Node, List<Edge>> consumers;
+    private final Map<Metric, Analysis> analyses = new EnumMap<>(Metric.class);
+
+    private RecipeGraph(Map<ResourceLocation, List<Edge>> edgesByRecipe, Map<Node, List<Edge>> producers,
+                        Map<Node, List<Edge>> consumers) {
+        this.edgesByRecipe = edgesByRecipe;
+        this.producers = producers;
+        this.consumers = consumers;
+    }
+
+    /**
+     * Get the graph of the last loaded datapacks; empty before the first load.
+     */
+    public static RecipeGraph get() {
+        return instance;
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        pending = event.getServerResources().getRecipeManager();
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        RecipeManager recipeManager = pending;
+        if (event.getUpdateCause() != TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD || recipeManager == null) {
+            return;
+        }
+        pending = null;
+        instance = update(instance, recipeManager, event.getRegistryAccess());
+    }
+
+    /**
+     * @return every node that is an input or output of some recipe
+     */
+    public Set<Node> nodes() {
+        Set<Node> nodes = new HashSet<>(producers.keySet());
+        nodes.addAll(consumers.keySet());
+        return nodes;
+    }
+
+    /**
+     * @return every edge, by recipe id (immutable)
+     */
+    public Map<ResourceLocation, List<Edge>> edges() {
+        return edgesByRecipe;
+    }
+
+    /**
+     * @return the recipes that make this node
+     */
+    public List<Edge> producers(Node node) {
+        return producers.getOrDefault(node, List.of());
+    }
+
+    /**
+     * @return the recipes that accept this node as an input
+     */
+    public List<Edge> consumers(Node node) {
+        return consumers.getOrDefault(node, List.of());
+    }
+
+    /**
+     * @return whether this node is a raw material, assumed available without any of our recipes
+     */
+    public static boolean isRaw(Node node) {
+        return !node.id().getNamespace().equals(ChemlibMekanized.MODID);
+    }
+
+    /**
+     * @return the cheapest derivation of this node, or empty if no recipe chain reaches it
+     */
+    public Optional<Derivation> derivation(Node node, Metric metric) {
+        return Optional.ofNullable(analysis(metric).best().get(node));
+    }
+
+    /**
+     * @return the cheapest chain of recipes making this node from raw materials, or empty if there is none.
+     * Costs add up per branch, so an intermediate used by two branches is counted twice.
+     */
+    public Optional<Path> cheapest(Node target, Metric metric) {
+        Analysis analysis = analysis(metric);
+        Derivation derivation = analysis.best().get(target);
+        if (derivation == null) {
+            return Optional.empty();
+        }
+        Set<Edge> recipes = new LinkedHashSet<>();
+        collectCheapest(analysis, target, recipes, new HashSet<>());
+        return Optional.of(new Path(target, metric, derivation.cost(), List.copyOf(recipes)));
+    }
+
+    private void collectCheapest(Analysis analysis, Node node, Set<Edge> recipes, Set<Node> visited) {
+        Derivation derivation = analysis.best().get(node);
+        if (derivation == null || derivation.isRaw() || !visited.add(node)) {
+            return;
+        }
+        for (Set<Node> input : derivation.edge().inputs()) {
+            // The alternative that satisfied this input first is the cheapest one
+            input.stream()
+                .filter(analysis.best()::containsKey)
+                .min(Comparator.comparingLong(alternative -> analysis.best().get(alternative).cost()))
+                .ifPresent(alternative -> collectCheapest(analysis, alternative, recipes, visited));
+        }
+        recipes.add(derivation.edge());
+    }
+
+    /**
+     * Every linear chain of recipes ending in this node, following one made (non-raw) input back at each step,
+     * without revisiting a node. Each chain is ordered from its first recipe to the one making the target.
+     *
+     * @param maxDepth the most recipes per chain
+     * @param limit    the most chains to return; the graph of a large pack has far more than anyone can read
+     */
+    public List<List<Edge>> paths(Node target, int maxDepth, int limit) {
+        List<List<Edge>> paths = new ArrayList<>();
+        Set<Node> visited = new HashSet<>();
+        visited.add(target);
+        collectPaths(target, new ArrayDeque<>(), visited, maxDepth, limit, paths);
+        return paths;
+    }
+
+    private void collectPaths(Node node, Deque<Edge> chain, Set<Node> visited, int depth, int limit, List<List<Edge>> paths) {
+        for (Edge edge : producers(node)) {
+            if (paths.size() >= limit) {
+                return;
+            }
+            chain.addFirst(edge);
+            Set<Node> next = new LinkedHashSet<>();
+            for (Set<Node> input : edge.inputs()) {
+                for (Node alternative : input) {
+                    if (!isRaw(alternative) && !visited.contains(alternative) && producers.containsKey(alternative)) {
+                        next.add(alternative);
+                    }
+                }
+            }
+            if (next.isEmpty() || depth <= 1) {
+                paths.add(List.copyOf(chain));
+            } else {
+                for (Node input : next) {
+                    visited.add(input);
+                    collectPaths(input, chain, visited, depth - 1, limit, paths);
+                    visited.remove(input);
+                }
+            }
+            chain.removeFirst();
+        }
+    }
+
+    /**
+     * @return every recipe output of ours that no chain from raw materials reaches
+     */
+    public Set<Node> unreachable() {
+        Analysis analysis = analysis(Metric.STEPS);
+        Set<Node> unreachable = new HashSet<>();
+        for (Node node : producers.keySet()) {
+            if (!analysis.best().containsKey(node)) {
+                unreachable.add(node);
+            }
+        }
+        return unreachable;
+    }
+
+    /**
+     * @return every edge that can never run because one of its inputs is unreachable
+     */
+    public List<Edge> deadEnds() {
+        Analysis analysis = analysis(Metric.STEPS);
+        List<Edge> deadEnds = new ArrayList<>();
+        for (List<Edge> edges : edgesByRecipe.values()) {
+            for (Edge edge : edges) {
+                if (!analysis.fired().contains(edge)) {
+                    deadEnds.add(edge);
+                }
+            }
+        }
+        return deadEnds;
+    }
+
+    private synchronized Analysis analysis(Metric metric) {
+        return analyses.computeIfAbsent(metric, this::analyze);
+    }
+
+    /**
+     * Settle nodes cheapest first. An edge runs once every input has a settled alternative; since alternatives settle
+     * in cost order, the first one settled per input is the cheapest, and the edge's outputs are offered at the
+     * combined input cost plus the edge's own.
+     */
+    private Analysis analyze(Metric metric) {
+        Map<Node, Derivation> best = new HashMap<>();
+        // Edges are unique objects; identity avoids hashing their input sets
+        Map<Edge, EdgeState> states = new IdentityHashMap<>();
+        PriorityQueue<Derivation> queue = new PriorityQueue<>(Comparator.comparingLong(Derivation::cost));
+        for (Node node : nodes()) {
+            if (isRaw(node)) {
+                queue.add(new Derivation(node, 0, null));
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            Derivation derivation = queue.poll();
+            Node node = derivation.node();
+            if (best.putIfAbsent(node, derivation) != null) {
+                continue;
+            }
+            for (Edge edge : consumers(node)) {
+                EdgeState state = states.computeIfAbsent(edge, EdgeState::new);
+                if (state.fired) {
+                    continue;
+                }
+                List<Set<Node>> inputs = edge.inputs();
+                for (int slot = 0; slot < inputs.size(); slot++) {
+                    if (!state.satisfied[slot] && inputs.get(slot).contains(node)) {
+                        state.satisfied[slot] = true;
+                        state.remaining--;
+                        state.cost = metric.combine(state.cost, derivation.cost());
+                    }
+                }
+                if (state.remaining == 0) {
+                    state.fired = true;
+                    long cost = state.cost + metric.cost(edge);
+                    for (Node output : edge.outputs()) {
+                        if (!best.containsKey(output)) {
+                            queue.add(new Derivation(output, cost, edge));
+                        }
+                    }
+                }
+            }
+        }
+
+        Set<Edge> fired = Collections.newSetFromMap(new IdentityHashMap<>());
+        states.forEach((edge, state) -> {
+            if (state.fired) {
+                fired.add(edge);
+            }
+        });
+        return new Analysis(Map.copyOf(best), Collections.unmodifiableSet(fired));
+    }
+
+    static RecipeGraph update(RecipeGraph previous, RecipeManager recipeManager, HolderLookup.Provider registries) {
+        long start = System.nanoTime();
+        Map<ResourceLocation, List<Edge>> edges = new LinkedHashMap<>();
+        for (RecipeHolder<?> holder : recipeManager.getRecipes()) {
+            List<Edge> recipeEdges;
+            try {
+                recipeEdges = RecipeEdges.of(holder, registries);
+            } catch (RuntimeException e) {
+                // Other mods' recipes may not support getIngredients or getResultItem
+                ChemlibMekanized.LOGGER.warn("Leaving recipe {} out of the recipe graph: {}", holder.id(), e.toString());
+                continue;
+            }
+            if (!recipeEdges.isEmpty()) {
+                // Keep an unchanged recipe's previous edges: the adjacency maps and analysis hold them by identity
+                List<Edge> old = previous.edgesByRecipe.get(holder.id());
+                edges.put(holder.id(), recipeEdges.equals(old) ? old : List.copyOf(recipeEdges));
+            }
+        }
+
+        List<Edge> removed = new ArrayList<>();
+        List<Edge> added = new ArrayList<>();
+        previous.edgesByRecipe.forEach((id, old) -> {
+            if (!old.equals(edges.get(id))) {
+                removed.addAll(old);
+            }
+        });
+        edges.forEach((id, current) -> {
+            if (!current.equals(previous.edgesByRecipe.get(id))) {
+                added.addAll(current);
+            }
+        });
+        if (removed.isEmpty() && added.isEmpty()) {
+            ChemlibMekanized.LOGGER.info("Recipe graph unchanged - {} recipes, kept in {} ms",
+                edges.size(), (System.nanoTime() - start) / 1_000_000L);
+            return previous;
+        }
+
+        Map<Node, List<Edge>> producers = thaw(previous.producers);
+        Map<Node, List<Edge>> consumers = thaw(previous.consumers);
+        for (Edge edge : removed) {
+            edge.outputs().forEach(node -> unlink(producers, node, edge));
+            edge.inputs().forEach(input -> input.forEach(node -> unlink(consumers, node, edge)));
+        }
+        for (Edge edge : added) {
+            edge.outputs().forEach(node -> producers.computeIfAbsent(node, n -> new ArrayList<>()).add(edge));
+            edge.inputs().forEach(input -> input.forEach(node -> consumers.computeIfAbsent(node, n -> new ArrayList<>()).add(edge)));
+        }
+
+        RecipeGraph graph = new RecipeGraph(Map.copyOf(edges), freeze(producers), freeze(consumers));
+        ChemlibMekanized.LOGGER.info("Recipe graph updated - {} recipes, {} nodes ({} edges removed, {} added) in {} ms",
+            edges.size(), graph.nodes().size(), removed.size(), added.size(), (System.nanoTime() - start) / 1_000_000L);
+        return graph;
+    }
+
+    private static void unlink(Map<Node, List<Edge>> adjacency, Node node, Edge edge) {
+        List<Edge> edges = adjacency.get(node);
+        if (edges != null) {
+            edges.remove(edge);
+            if (edges.isEmpty()) {
+                adjacency.remove(node);
+            }
+        }
+    }
+
+    private static Map<Node, List<Edge>> thaw(Map<Node, List<Edge>> adjacency) {
+        Map<Node, List<Edge>> mutable = new HashMap<>();
+        adjacency.forEach((node, edges) -> mutable.put(node, new ArrayList<>(edges)));
+        return mutable;
+    }
+
+    private static Map<Node, List<Edge>> freeze(Map<Node, List<Edge>> adjacency) {
+        Map<Node, List<Edge>> frozen = new HashMap<>();
+        adjacency.forEach((node, edges) -> frozen.put(node, List.copyOf(edges)));
+        return Map.copyOf(frozen);
+    }
+
+    /**
+     * Cheapest derivations under one metric, and which edges can run at all.
+     */
+    private record Analysis(Map<Node, Derivation> best, Set<Edge> fired) {
+    }
+
+    /**
+     * Progress of one edge during analysis.
+     */
+    private static final class EdgeState {
+        private final boolean[] satisfied;
+        private int remaining;
+        private long cost;
+        private boolean fired;
+
+        EdgeState(Edge edge) {
+            this.satisfied = new boolean[edge.inputs().size()];
+            this.remaining = satisfied.length;
+        }
+    }
+}
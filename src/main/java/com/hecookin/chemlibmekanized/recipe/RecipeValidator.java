@@ -0,0 +1,550 @@
+package com.hecookin.chemlibmekanized.recipe;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.recipe.MekanismRecipeInputs.Key;
+import com.hecookin.chemlibmekanized.recipe.MekanismRecipeInputs.Sample;
+import mekanism.api.MekanismAPI;
+import mekanism.api.recipes.ChemicalDissolutionRecipe;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.PressurizedReactionRecipe;
+import net.minecraft.Util;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.FileToIdConverter;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cross-checks every chemlibmekanized recipe and the {@code dissolves_with_*} item tags after a datapack load,
+ * and logs one summarized report.
+ *
+ * <p>A recipe that names a chemical, item or fluid that does not exist is dropped by the recipe manager with one
+ * error line among thousands, or worse, decodes and never matches in a machine. Loaded recipes are checked as the
+ * recipe manager decoded them: inputs whose tag is unknown or empty, acid consumed every tick, recipes that can
+ * never run because another recipe has the same inputs, and {@code dissolves_with_*} tags that failed to load or
+ * name items no reaction accepts. Only a recipe that did not load is read back as raw JSON, to name the unknown
+ * id or the field mistake recorded in RECIPE_SYSTEM_KNOWLEDGE.md that rejected it.</p>
+ *
+ * <p>The prepare phase only lists this mod's recipe files and bundles and reads the three acid tag files. The
+ * checks need bound tags, so they start from {@link TagsUpdatedEvent} and run on the background executor in two
+ * stages: per-recipe checks split across workers, then the duplicate-input and tag checks, which need every
+ * recipe's inputs.</p>
+ */
+@EventBusSubscriber(modid = ChemlibMekanized.MODID)
+public class RecipeValidator extends SimplePreparableReloadListener<RecipeValidator.Sources> {
+
+    private static final FileToIdConverter RECIPE_FILES = FileToIdConverter.json("recipe");
+    private static final int MIN_CHUNK = 256;
+    private static final int EXAMPLES = 5;
+
+    /**
+     * Acid chemicals a {@code dissolves_with_*} tag stands for.
+     */
+    private static final Map<String, Set<String>> ACID_TAGS = Map.of(
+        "dissolves_with_hydrochloric", Set.of("mekanism:hydrogen_chloride", "chemlibmekanized:hydrochloric_acid"),
+        "dissolves_with_nitric", Set.of("chemlibmekanized:nitric_acid"),
+        "dissolves_with_sulfuric", Set.of("mekanism:sulfuric_acid"));
+
+    private static final AtomicInteger RUNS = new AtomicInteger();
+    private static volatile Pending pending;
+
+    private final RecipeManager recipeManager;
+
+    private RecipeValidator(RecipeManager recipeManager) {
+        this.recipeManager = recipeManager;
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new RecipeValidator(event.getServerResources().getRecipeManager()));
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        Pending validation = pending;
+        if (event.getUpdateCause() != TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD || validation == null) {
+            return;
+        }
+        pending = null;
+        validate(validation, RUNS.incrementAndGet());
+    }
+
+    /**
+     * This mod's recipe files by recipe id and recipe bundles, unopened, and the raw acid tag files.
+     */
+    record Sources(Map<ResourceLocation, Resource> recipeFiles, Map<ResourceLocation, Resource> bundles, List<TagFile> tags) {
+    }
+
+    /**
+     * The entries of one tag as written, and whether they were only found at the pre-1.21 {@code tags/items/} path.
+     */
+    record TagFile(ResourceLocation tag, List<String> entries, boolean found, boolean legacyPath) {
+    }
+
+    private record Pending(RecipeManager recipeManager, Sources sources) {
+    }
+
+    /**
+     * The kinds of check, in report order.
+     */
+    enum Check {
+        NOT_LOADED(true, "not loaded by the recipe manager"),
+        FORMAT(true, "malformed"),
+        UNKNOWN_ITEM(true, "unknown item"),
+        UNKNOWN_CHEMICAL(true, "unknown chemical"),
+        UNKNOWN_FLUID(true, "unknown fluid"),
+        UNKNOWN_TAG(true, "unknown tag"),
+        EMPTY_INPUT(true, "input matching nothing (unknown or empty tag)"),
+        TAG_NOT_LOADED(true, "acid tag not loaded"),
+        TAG_UNRESOLVED(true, "acid tag entry not registered"),
+        PER_TICK_USAGE(false, "acid consumed every tick"),
+        DUPLICATE_INPUT(false, "same inputs as another recipe, never selected"),
+        TAG_UNUSED(false, "tagged item without a reaction using that acid");
+
+        private final boolean error;
+        private final String description;
+
+        Check(boolean error, String description) {
+            this.error = error;
+            this.description = description;
+        }
+    }
+
+    /**
+     * One finding: what was checked, the recipe, tag entry or tag it concerns, and the offending value.
+     */
+    record Problem(Check check, String subject, String detail) {
+    }
+
+    /**
+     * Registries an id in a recipe can refer to.
+     */
+    private enum Kind {
+        ITEM(Check.UNKNOWN_ITEM),
+        CHEMICAL(Check.UNKNOWN_CHEMICAL),
+        FLUID(Check.UNKNOWN_FLUID);
+
+        private final Check unknown;
+
+        Kind(Check unknown) {
+            this.unknown = unknown;
+        }
+
+        Registry<?> registry() {
+            return switch (this) {
+                case ITEM -> BuiltInRegistries.ITEM;
+                case CHEMICAL -> MekanismAPI.CHEMICAL_REGISTRY;
+                case FLUID -> BuiltInRegistries.FLUID;
+            };
+        }
+    }
+
+    @Override
+    protected Sources prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+        // Listing only: a file is opened later if its recipe did not load
+        Map<ResourceLocation, Resource> recipeFiles = new TreeMap<>();
+        RECIPE_FILES.listMatchingResources(resourceManager).forEach((file, resource) -> {
+            if (file.getNamespace().equals(ChemlibMekanized.MODID)) {
+                recipeFiles.put(RECIPE_FILES.fileToId(file), resource);
+            }
+        });
+
+        Map<ResourceLocation, Resource> bundles = new HashMap<>(RecipeBundleLoader.listBundles(resourceManager));
+        bundles.keySet().removeIf(bundle -> !bundle.getNamespace().equals(ChemlibMekanized.MODID));
+
+        List<TagFile> tags = new ArrayList<>();
+        for (String name : new TreeMap<>(ACID_TAGS).keySet()) {
+            tags.add(readTag(resourceManager, ResourceLocation.fromNamespaceAndPath(ChemlibMekanized.MODID, name)));
+        }
+        return new Sources(recipeFiles, bundles, tags);
+    }
+
+    @Override
+    protected void apply(Sources sources, ResourceManager resourceManager, ProfilerFiller profiler) {
+        // Tags are bound after every listener has applied; validation starts from TagsUpdatedEvent
+        pending = new Pending(recipeManager, sources);
+    }
+
+    private static TagFile readTag(ResourceManager resourceManager, ResourceLocation tag) {
+        boolean legacyPath = false;
+        List<Resource> stack = resourceManager.getResourceStack(tag.withPath(path -> "tags/item/" + path + ".json"));
+        if (stack.isEmpty()) {
+            stack = resourceManager.getResourceStack(tag.withPath(path -> "tags/items/" + path + ".json"));
+            legacyPath = !stack.isEmpty();
+        }
+
+        List<String> entries = new ArrayList<>();
+        for (Resource resource : stack) {
+            try (Reader reader = resource.openAsReader()) {
+                JsonArray values = JsonParser.parseReader(reader).getAsJsonObject().getAsJsonArray("values");
+                for (JsonElement value : values) {
+                    if (value.isJsonPrimitive()) {
+                        entries.add(value.getAsString());
+                        continue;
+                    }
+                    JsonObject entry = value.getAsJsonObject();
+                    // Optional entries never break the tag
+                    if (!entry.has("required") || entry.get("required").getAsBoolean()) {
+                        entries.add(entry.get("id").getAsString());
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                ChemlibMekanized.LOGGER.error("Failed to read tag {} for validation", tag, e);
+            }
+        }
+        return new TagFile(tag, entries, !stack.isEmpty(), legacyPath);
+    }
+
+    private static void validate(Pending validation, int run) {
+        long start = System.nanoTime();
+        Executor executor = Util.backgroundExecutor();
+        List<RecipeHolder<?>> recipes = validation.recipeManager().getRecipes().stream()
+            .filter(holder -> holder.id().getNamespace().equals(ChemlibMekanized.MODID))
+            .collect(Collectors.toList());
+
+        // Stage 1: per-recipe checks, split across workers, and the recipes that did not load
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), recipes.size() / MIN_CHUNK));
+        int chunkSize = Math.max(1, (recipes.size() + chunks - 1) / chunks);
+        List<CompletableFuture<Findings>> stage = new ArrayList<>(chunks + 1);
+        for (int from = 0; from < recipes.size(); from += chunkSize) {
+            List<RecipeHolder<?>> chunk = recipes.subList(from, Math.min(from + chunkSize, recipes.size()));
+            stage.add(CompletableFuture.supplyAsync(() -> checkRecipes(chunk), executor));
+        }
+        stage.add(CompletableFuture.supplyAsync(() -> checkNotLoaded(validation.sources(), validation.recipeManager()), executor));
+
+        CompletableFuture.allOf(stage.toArray(CompletableFuture[]::new))
+            .thenApply(done -> {
+                Findings merged = new Findings();
+                stage.forEach(findings -> merged.merge(findings.join()));
+                return merged;
+            })
+            // Stage 2: checks across all recipes
+            .thenCompose(findings -> CompletableFuture.supplyAsync(() -> checkDuplicates(findings.recipesByInputs), executor)
+                .thenCombine(CompletableFuture.supplyAsync(() -> checkTags(validation.sources().tags(), findings.itemsByAcid), executor),
+                    (duplicates, tags) -> {
+                        findings.problems.addAll(duplicates);
+                        findings.problems.addAll(tags);
+                        return findings;
+                    }))
+            .whenComplete((findings, error) -> {
+                if (error != null) {
+                    ChemlibMekanized.LOGGER.error("Recipe validation failed", error);
+                } else if (run != RUNS.get()) {
+                    ChemlibMekanized.LOGGER.debug("Discarding recipe validation superseded by a newer reload");
+                } else {
+                    report(findings.problems, findings.checked, validation.sources().tags().size(), System.nanoTime() - start);
+                }
+            });
+    }
+
+    private static Findings checkRecipes(List<RecipeHolder<?>> recipes) {
+        Findings findings = new Findings();
+        for (RecipeHolder<?> holder : recipes) {
+            findings.checked++;
+            try {
+                checkRecipe(holder.id(), holder.value(), findings);
+            } catch (RuntimeException e) {
+                // Resolving the representations of a broken ingredient
+                findings.add(Check.FORMAT, holder.id(), e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+        return findings;
+    }
+
+    private static void checkRecipe(ResourceLocation id, Recipe<?> recipe, Findings findings) {
+        if (recipe instanceof ChemicalDissolutionRecipe dissolution && dissolution.perTickUsage()) {
+            findings.add(Check.PER_TICK_USAGE, id, "per_tick_usage is true");
+        }
+
+        // Ids were resolved by the codec; what can still be wrong is a tag that matches nothing
+        List<Sample> samples = MekanismRecipeInputs.samples(recipe);
+        if (samples.isEmpty()) {
+            if (recipe instanceof MekanismRecipe<?>) {
+                findings.add(Check.EMPTY_INPUT, id, String.valueOf(BuiltInRegistries.RECIPE_TYPE.getKey(recipe.getType())));
+            }
+            return;
+        }
+
+        Set<Key> keys = samples.stream().map(Sample::key).collect(Collectors.toSet());
+        findings.recipesByInputs.computeIfAbsent(new Inputs(recipe.getType(), keys), inputs -> new ArrayList<>()).add(id);
+        if (recipe instanceof PressurizedReactionRecipe) {
+            for (Key key : keys) {
+                findings.itemsByAcid.computeIfAbsent(MekanismAPI.CHEMICAL_REGISTRY.getKey(key.chemical()).toString(), acid -> new HashSet<>())
+                    .add(BuiltInRegistries.ITEM.getKey(key.item()).toString());
+            }
+        }
+    }
+
+    /**
+     * Read back the recipe files and bundle lines of this mod that the recipe manager did not load, to say why.
+     */
+    private static Findings checkNotLoaded(Sources sources, RecipeManager recipeManager) {
+        Findings findings = new Findings();
+        sources.recipeFiles().forEach((id, resource) -> {
+            if (recipeManager.byKey(id).isEmpty()) {
+                checkNotLoaded(id, readRecipe(resource), findings);
+            }
+        });
+        if (!sources.bundles().isEmpty()) {
+            for (Map.Entry<ResourceLocation, JsonObject> entry : RecipeBundleLoader.read(sources.bundles())) {
+                ResourceLocation id = entry.getKey();
+                // A recipe file with the same id replaces the bundle line, loaded or not
+                if (!sources.recipeFiles().containsKey(id) && recipeManager.byKey(id).isEmpty()) {
+                    checkNotLoaded(id, entry.getValue(), findings);
+                }
+            }
+        }
+        return findings;
+    }
+
+    private static JsonObject readRecipe(Resource resource) {
+        try (Reader reader = resource.openAsReader()) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (IOException | RuntimeException e) {
+            // The recipe manager logs the same failure; the recipe shows up as not loaded
+            return new JsonObject();
+        }
+    }
+
+    private static void checkNotLoaded(ResourceLocation id, JsonObject json, Findings findings) {
+        try {
+            String type = json.has("type") ? json.get("type").getAsString() : "";
+            if (json.has("neoforge:conditions")) {
+                // Disabled on purpose
+                return;
+            }
+            findings.checked++;
+            findings.add(Check.NOT_LOADED, id, type.isEmpty() ? "no type" : type);
+            checkFormat(id, type, json, findings);
+            json.entrySet().forEach(field -> checkIds(id, type, field.getKey(), field.getValue(), findings));
+        } catch (RuntimeException e) {
+            // A field of the wrong JSON shape (an object where a string belongs, ...) fails its accessor
+            findings.add(Check.FORMAT, id, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The field mistakes that have broken this mod's recipes before, as the reason a recipe did not load.
+     */
+    private static void checkFormat(ResourceLocation id, String type, JsonObject json, Findings findings) {
+        switch (type) {
+            case "mekanism:dissolution" -> {
+                if (!json.has("per_tick_usage")) {
+                    findings.add(Check.FORMAT, id, "missing required per_tick_usage");
+                }
+            }
+            case "mekanism:crystallizing" -> {
+                if (json.has("chemical_input")) {
+                    findings.add(Check.FORMAT, id, "chemical_input instead of input");
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static void checkIds(ResourceLocation id, String type, String field, JsonElement element, Findings findings) {
+        if (element instanceof JsonArray array) {
+            array.forEach(child -> checkIds(id, type, field, child, findings));
+            return;
+        }
+        if (!(element instanceof JsonObject object)) {
+            return;
+        }
+        for (Map.Entry<String, JsonElement> child : object.entrySet()) {
+            String key = child.getKey();
+            JsonElement value = child.getValue();
+            if (!value.isJsonPrimitive()) {
+                checkIds(id, type, key, value, findings);
+                continue;
+            }
+            switch (key) {
+                case "item" -> checkId(id, Kind.ITEM, value.getAsString(), findings);
+                case "chemical" -> checkId(id, Kind.CHEMICAL, value.getAsString(), findings);
+                case "fluid" -> checkId(id, Kind.FLUID, value.getAsString(), findings);
+                case "id" -> checkId(id, kindOf(type, field, object), value.getAsString(), findings);
+                case "tag" -> checkTag(id, kindOf(type, field, object), value.getAsString(), findings);
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * Which registry an "id" or "tag" refers to, from the field holding it.
+     */
+    private static Kind kindOf(String type, String field, JsonObject object) {
+        if (field.contains("fluid") || (type.equals("mekanism:evaporating") && field.equals("input"))) {
+            return Kind.FLUID;
+        }
+        if (field.contains("chemical")) {
+            return Kind.CHEMICAL;
+        }
+        if (field.contains("item") || field.equals("result") || field.equals("ingredient") || field.equals("ingredients")) {
+            return Kind.ITEM;
+        }
+        // Mekanism's plain "output": chemical stacks carry an amount, item stacks a count
+        return object.has("amount") && !object.has("count") ? Kind.CHEMICAL : Kind.ITEM;
+    }
+
+    private static void checkId(ResourceLocation recipe, Kind kind, String value, Findings findings) {
+        ResourceLocation id = ResourceLocation.tryParse(value);
+        if (id == null || !kind.registry().containsKey(id)) {
+            findings.add(kind.unknown, recipe, value);
+        }
+    }
+
+    private static void checkTag(ResourceLocation recipe, Kind kind, String value, Findings findings) {
+        ResourceLocation id = ResourceLocation.tryParse(value);
+        if (id == null || !hasTag(kind.registry(), id)) {
+            findings.add(Check.UNKNOWN_TAG, recipe, kind.name().toLowerCase(Locale.ROOT) + " #" + value);
+        }
+    }
+
+    private static <T> boolean hasTag(Registry<T> registry, ResourceLocation id) {
+        return registry.getTag(TagKey.create(registry.key(), id)).isPresent();
+    }
+
+    /**
+     * The recipe type and every input combination it accepts, ignoring amounts: recipes with equal inputs compete
+     * for the same machine inputs and only the first is ever selected.
+     */
+    private record Inputs(RecipeType<?> type, Set<Key> keys) {
+    }
+
+    private static List<Problem> checkDuplicates(Map<Inputs, List<ResourceLocation>> recipesByInputs) {
+        List<Problem> problems = new ArrayList<>();
+        for (List<ResourceLocation> recipes : recipesByInputs.values()) {
+            if (recipes.size() > 1) {
+                recipes.sort(Comparator.naturalOrder());
+                for (ResourceLocation shadowed : recipes.subList(1, recipes.size())) {
+                    problems.add(new Problem(Check.DUPLICATE_INPUT, shadowed.toString(), recipes.getFirst().toString()));
+                }
+            }
+        }
+        return problems;
+    }
+
+    private static List<Problem> checkTags(List<TagFile> tags, Map<String, Set<String>> itemsByAcid) {
+        List<Problem> problems = new ArrayList<>();
+        for (TagFile tag : tags) {
+            String name = "#" + tag.tag();
+            if (!tag.found()) {
+                problems.add(new Problem(Check.TAG_NOT_LOADED, name, "no tag file"));
+                continue;
+            }
+            if (!hasTag(BuiltInRegistries.ITEM, tag.tag())) {
+                problems.add(new Problem(Check.TAG_NOT_LOADED, name, tag.legacyPath()
+                    ? "file is under tags/items/, which 1.21 no longer reads (tags/item/)"
+                    : "rejected by the tag loader"));
+            }
+
+            Set<String> acids = ACID_TAGS.get(tag.tag().getPath());
+            for (String entry : tag.entries()) {
+                if (entry.startsWith("#")) {
+                    continue;
+                }
+                ResourceLocation item = ResourceLocation.tryParse(entry);
+                if (item == null || !BuiltInRegistries.ITEM.containsKey(item)) {
+                    problems.add(new Problem(Check.TAG_UNRESOLVED, entry, name));
+                } else if (acids.stream().noneMatch(acid -> itemsByAcid.getOrDefault(acid, Set.of()).contains(entry))) {
+                    problems.add(new Problem(Check.TAG_UNUSED, entry, name));
+                }
+            }
+        }
+        return problems;
+    }
+
+    private static void report(List<Problem> problems, int recipes, int tags, long nanos) {
+        Map<Check, List<Problem>> byCheck = new EnumMap<>(Check.class);
+        problems.forEach(problem -> byCheck.computeIfAbsent(problem.check(), check -> new ArrayList<>()).add(problem));
+        int errors = 0;
+        int warnings = 0;
+
+        StringBuilder details = new StringBuilder();
+        for (Map.Entry<Check, List<Problem>> entry : byCheck.entrySet()) {
+            Check check = entry.getKey();
+            List<Problem> found = entry.getValue();
+            found.sort(Comparator.comparing(Problem::subject));
+            if (check.error) {
+                errors += found.size();
+            } else {
+                warnings += found.size();
+            }
+
+            details.append(String.format(Locale.ROOT, "%n  [%s] %s x%d: ", check.error ? "ERROR" : "WARN", check.description, found.size()));
+            for (int i = 0; i < Math.min(EXAMPLES, found.size()); i++) {
+                Problem problem = found.get(i);
+                details.append(i == 0 ? "" : ", ").append(problem.subject()).append(" (").append(problem.detail()).append(')');
+            }
+            if (found.size() > EXAMPLES) {
+                details.append(", +").append(found.size() - EXAMPLES).append(" more");
+            }
+        }
+
+        String summary = String.format(Locale.ROOT, "Validated %d recipes and %d acid tags in %d ms - %d errors, %d warnings",
+            recipes, tags, nanos / 1_000_000L, errors, warnings);
+        if (errors > 0) {
+            ChemlibMekanized.LOGGER.error("{}{}", summary, details);
+        } else if (warnings > 0) {
+            ChemlibMekanized.LOGGER.warn("{}{}", summary, details);
+        } else {
+            ChemlibMekanized.LOGGER.info(summary);
+        }
+    }
+
+    /**
+     * What one worker found, plus the inputs stage 2 needs.
+     */
+    private static final class Findings {
+        private final List<Problem> problems = new ArrayList<>();
+        private final Map<Inputs, List<ResourceLocation>> recipesByInputs = new LinkedHashMap<>();
+        private final Map<String, Set<String>> itemsByAcid = new HashMap<>();
+        private int checked;
+
+        void add(Check check, ResourceLocation recipe, String detail) {
+            problems.add(new Problem(check, recipe.toString(), detail));
+        }
+
+        void merge(Findings other) {
+            checked += other.checked;
+            problems.addAll(other.problems);
+            other.recipesByInputs.forEach((key, recipes) -> recipesByInputs.computeIfAbsent(key, k -> new ArrayList<>()).addAll(recipes));
+            other.itemsByAcid.forEach((acid, items) -> itemsByAcid.computeIfAbsent(acid, a -> new HashSet<>()).addAll(items));
+        }
+    }
+}
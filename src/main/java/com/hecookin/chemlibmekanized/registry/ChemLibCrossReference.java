@@ -0,0 +1,266 @@
+package com.hecookin.chemlibmekanized.registry;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.api.MatterState;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
+import mekanism.api.chemical.Chemical;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.ItemLike;
+import net.minecraft.world.level.material.Fluid;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cross-reference between every form a ChemLib element or compound takes in this mod: its item, gas and liquid
+ * chemicals, fluid, dirty and clean slurries, crystal, ingot, nugget and plate.
+ *
+ * <p>Keyed by the ChemLib name in one direction ({@link #forms(String)}) and by the registered object in the other
+ * ({@link #of(ItemLike)}, {@link #of(Fluid)}, {@link #of(Chemical)}); every lookup is a single hash lookup.
+ * The table is built once, after all registries are bound (common setup), and is immutable after that.</p>
+ */
+public final class ChemLibCrossReference {
+
+    private static volatile ChemLibCrossReference instance;
+
+    /**
+     * The kinds of object a material can appear as.
+     */
+    public enum Form {
+        ITEM,
+        GAS,
+        LIQUID,
+        FLUID,
+        DIRTY_SLURRY,
+        CLEAN_SLURRY,
+        CRYSTAL,
+        INGOT,
+        NUGGET,
+        PLATE
+    }
+
+    /**
+     * Every form of one material. Absent forms are null.
+     *
+     * @param liquid the liquid-state chemical (e.g. bromine slurry, nitric acid); fluids are in {@code fluid}
+     * @param fluid  the source fluid, either the liquid itself or the liquefied gas
+     */
+    public record Forms(String material, Item item, Chemical gas, Chemical liquid, Fluid fluid,
+                        Chemical dirtySlurry, Chemical cleanSlurry,
+                        Item crystal, Item ingot, Item nugget, Item plate) {
+
+        public Object get(Form form) {
+            return switch (form) {
+                case ITEM -> item;
+                case GAS -> gas;
+                case LIQUID -> liquid;
+                case FLUID -> fluid;
+                case DIRTY_SLURRY -> dirtySlurry;
+                case CLEAN_SLURRY -> cleanSlurry;
+                case CRYSTAL -> crystal;
+                case INGOT -> ingot;
+                case NUGGET -> nugget;
+                case PLATE -> plate;
+            };
+        }
+
+        public boolean has(Form form) {
+            return get(form) != null;
+        }
+    }
+
+    /**
+     * A registered object's material and which of its forms it is.
+     */
+    public record Entry(Forms forms, Form form) {
+
+        public String material() {
+            return forms.material();
+        }
+    }
+
+    private final Map<String, Forms> byMaterial;
+    private final Map<Item, Entry> byItem;
+    private final Map<Fluid, Entry> byFluid;
+    private final Map<Chemical, Entry> byChemical;
+
+    private ChemLibCrossReference(Map<String, Forms> byMaterial, Map<Item, Entry> byItem,
+                                  Map<Fluid, Entry> byFluid, Map<Chemical, Entry> byChemical) {
+        this.byMaterial = byMaterial;
+        this.byItem = byItem;
+        this.byFluid = byFluid;
+        this.byChemical = byChemical;
+    }
+
+    /**
+     * Get the cross-reference, building it on first call.
+     * Must not be called before the item, fluid and chemical registries are bound.
+     */
+    public static ChemLibCrossReference get() {
+        ChemLibCrossReference crossReference = instance;
+        if (crossReference == null) {
+            synchronized (ChemLibCrossReference.class) {
+                crossReference = instance;
+                if (crossReference == null) {
+                    // Not cached if building throws (registries not bound yet), so a later call can retry
+                    crossReference = build();
+                    instance = crossReference;
+                }
+            }
+        }
+        return crossReference;
+    }
+
+    /**
+     * @return every form of this material, or null if it is not one of ours
+     */
+    public Forms forms(String material) {
+        return byMaterial.get(material);
+    }
+
+    /**
+     * @return every form of the material this item is a form of, or null if it is not one of ours
+     */
+    public Forms formsOf(ItemLike item) {
+        Entry entry = of(item);
+        return entry != null ? entry.forms() : null;
+    }
+
+    /**
+     * @return the material and form of this item, or null if it is not one of ours
+     */
+    public Entry of(ItemLike item) {
+        return byItem.get(item.asItem());
+    }
+
+    /**
+     * @return the material and form of this fluid (source or flowing), or null if it is not one of ours
+     */
+    public Entry of(Fluid fluid) {
+        return byFluid.get(fluid);
+    }
+
+    /**
+     * @return the material and form of this chemical, or null if it is not one of ours
+     */
+    public Entry of(Chemical chemical) {
+        return byChemical.get(chemical);
+    }
+
+    /**
+     * @return every material with at least one form, in registration order (immutable)
+     */
+    public Collection<Forms> all() {
+        return byMaterial.values();
+    }
+
+    private static ChemLibCrossReference build() {
+        long start = System.nanoTime();
+        ChemicalResolver resolver = ChemicalResolver.get();
+        Map<String, Slots> slots = new LinkedHashMap<>();
+
+        for (ChemLibDataExtractor.ElementData element : ChemLibDataset.get().elements()) {
+            Slots material = slots.computeIfAbsent(element.name, Slots::new);
+            material.gas = resolver.element(element.name, MatterState.GAS);
+            material.liquid = resolver.element(element.name, MatterState.LIQUID);
+        }
+        for (ChemLibDataExtractor.CompoundData compound : ChemLibDataset.get().compounds()) {
+            Slots material = slots.computeIfAbsent(compound.name, Slots::new);
+            material.gas = resolver.compound(compound.name, MatterState.GAS);
+            material.liquid = resolver.compound(compound.name, MatterState.LIQUID);
+        }
+
+        ChemLibItemRegistry.ELEMENT_ITEMS.forEach((name, holder) -> slots.computeIfAbsent(name, Slots::new).item = holder.get());
+        ChemLibItemRegistry.COMPOUND_ITEMS.forEach((name, holder) -> slots.computeIfAbsent(name, Slots::new).item = holder.get());
+        ChemLibItemRegistry.METAL_CRYSTAL_ITEMS.forEach((name, holder) -> slots.computeIfAbsent(name, Slots::new).crystal = holder.get());
+        ChemLibItemRegistry.METAL_INGOT_ITEMS.forEach((name, holder) -> slots.computeIfAbsent(name, Slots::new).ingot = holder.get());
+        ChemLibItemRegistry.METAL_NUGGET_ITEMS.forEach((name, holder) -> slots.computeIfAbsent(name, Slots::new).nugget = holder.get());
+        ChemLibItemRegistry.METAL_PLATE_ITEMS.forEach((name, holder) -> slots.computeIfAbsent(name, Slots::new).plate = holder.get());
+
+        // Slurries also cover non-ChemLib materials such as quartz and coal
+        ChemlibMekanizedChemicals.METAL_SLURRIES.forEach((name, slurry) -> {
+            Slots material = slots.computeIfAbsent(name, Slots::new);
+            material.dirtySlurry = slurry.get();
+            material.cleanSlurry = slurry.getSecondary();
+        });
+
+        Map<Fluid, Fluid> flowingBySource = new IdentityHashMap<>();
+        ChemLibFluidRegistry.forEachFluid((name, entry) -> {
+            Slots material = slots.computeIfAbsent(name, Slots::new);
+            Fluid source = entry.sourceFluid().get();
+            if (material.fluid == null) {
+                material.fluid = source;
+                flowingBySource.put(source, entry.flowingFluid().get());
+            } else {
+                ChemlibMekanized.LOGGER.warn("{} has more than one fluid, keeping {}", name, material.fluid);
+            }
+        });
+
+        Map<String, Forms> byMaterial = new LinkedHashMap<>();
+        Map<Item, Entry> byItem = new IdentityHashMap<>();
+        Map<Fluid, Entry> byFluid = new IdentityHashMap<>();
+        Map<Chemical, Entry> byChemical = new IdentityHashMap<>();
+        for (Slots material : slots.values()) {
+            Forms forms = material.freeze();
+            byMaterial.put(forms.material(), forms);
+            for (Form form : Form.values()) {
+                Object value = forms.get(form);
+                if (value instanceof Item item) {
+                    index(byItem, item, forms, form);
+                } else if (value instanceof Fluid fluid) {
+                    index(byFluid, fluid, forms, form);
+                    index(byFluid, flowingBySource.get(fluid), forms, form);
+                } else if (value instanceof Chemical chemical) {
+                    index(byChemical, chemical, forms, form);
+                }
+            }
+        }
+
+        ChemLibCrossReference crossReference = new ChemLibCrossReference(Collections.unmodifiableMap(byMaterial),
+            Collections.unmodifiableMap(byItem), Collections.unmodifiableMap(byFluid), Collections.unmodifiableMap(byChemical));
+        ChemlibMekanized.LOGGER.info("Built ChemLib cross-reference - {} materials, {} items, {} fluids, {} chemicals in {} ms",
+            byMaterial.size(), byItem.size(), byFluid.size(), byChemical.size(), (System.nanoTime() - start) / 1_000_000L);
+        return crossReference;
+    }
+
+    private static <T> void index(Map<T, Entry> index, T key, Forms forms, Form form) {
+        if (key == null) {
+            return;
+        }
+        Entry previous = index.putIfAbsent(key, new Entry(forms, form));
+        if (previous != null) {
+            // e.g. one Mekanism chemical reused for two ChemLib names; the first registration wins
+            ChemlibMekanized.LOGGER.warn("{} is both {} of {} and {} of {}, keeping the first",
+                key, previous.form(), previous.material(), form, forms.material());
+        }
+    }
+
+    /**
+     * Mutable forms used only while building.
+     */
+    private static final class Slots {
+        private final String material;
+        private Item item;
+        private Chemical gas;
+        private Chemical liquid;
+        private Fluid fluid;
+        private Chemical dirtySlurry;
+        private Chemical cleanSlurry;
+        private Item crystal;
+        private Item ingot;
+        private Item nugget;
+        private Item plate;
+
+        Slots(String material) {
+            this.material = material;
+        }
+
+        Forms freeze() {
+            return new Forms(material, item, gas, liquid, fluid, dirtySlurry, cleanSlurry, crystal, ingot, nugget, plate);
+        }
+    }
+}
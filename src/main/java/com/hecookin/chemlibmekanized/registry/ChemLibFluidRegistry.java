@@ -2,6 +2,7 @@ package com.hecookin.chemlibmekanized.registry;
 
 import com.hecookin.chemlibmekanized.ChemlibMekanized;
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
@@ -24,6 +25,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * Registry for ChemLib chemical fluids using standard NeoForge fluid system
@@ -43,6 +45,9 @@ public class ChemLibFluidRegistry {
     private static final List<ChemLibFluidEntry> COMPOUND_FLUIDS = new ArrayList<>();
     private static final List<ChemLibFluidEntry> GAS_FLUIDS = new ArrayList<>();
 
+    // Liquefied gas fluids are named with this prefix to distinguish them from the gas chemical
+    public static final String GAS_FLUID_PREFIX = "liquid_";
+
 
     /**
      * Registers all liquid chemicals as standard NeoForge fluids
@@ -66,20 +71,18 @@ public class ChemLibFluidRegistry {
      * Registers all liquid-state elements as fluids
      */
     private static void registerLiquidElements() {
-        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements();
-        LOGGER.info("Found {} total elements, checking for liquid elements with fluid properties", elements.size());
-
-        for (ChemLibDataExtractor.ElementData element : elements) {
-            if ("liquid".equals(element.matterState)) {
-                // Skip bromine and mercury as they're handled as slurries in ChemlibMekanizedChemicals
-                if ("bromine".equals(element.name) || "mercury".equals(element.name)) {
-                    LOGGER.info("Skipping liquid element {} - handled as slurry", element.name);
-                    continue;
-                }
-                LOGGER.info("Found liquid element: {} (has fluid properties: {})", element.name, element.fluidProperties != null);
-                if (element.fluidProperties != null) {
-                    registerElementFluid(element);
-                }
+        List<ChemLibDataExtractor.ElementData> liquidElements = ChemLibDataset.get().liquidElements();
+        LOGGER.info("Found {} liquid elements, checking for fluid properties", liquidElements.size());
+
+        for (ChemLibDataExtractor.ElementData element : liquidElements) {
+            // Skip bromine and mercury as they're handled as slurries in ChemlibMekanizedChemicals
+            if ("bromine".equals(element.name) || "mercury".equals(element.name)) {
+                LOGGER.info("Skipping liquid element {} - handled as slurry", element.name);
+                continue;
+            }
+            LOGGER.info("Found liquid element: {} (has fluid properties: {})", element.name, element.fluidProperties != null);
+            if (element.fluidProperties != null) {
+                registerElementFluid(element);
             }
         }
     }
@@ -88,15 +91,13 @@ public class ChemLibFluidRegistry {
      * Registers all liquid-state compounds as fluids
      */
     private static void registerLiquidCompounds() {
-        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds();
-        LOGGER.info("Found {} total compounds, checking for liquid compounds with fluid properties", compounds.size());
-
-        for (ChemLibDataExtractor.CompoundData compound : compounds) {
-            if ("liquid".equals(compound.matterState)) {
-                LOGGER.info("Found liquid compound: {} (has fluid properties: {})", compound.name, compound.fluidProperties != null);
-                if (compound.fluidProperties != null) {
-                    registerCompoundFluid(compound);
-                }
+        List<ChemLibDataExtractor.CompoundData> liquidCompounds = ChemLibDataset.get().liquidCompounds();
+        LOGGER.info("Found {} liquid compounds, checking for fluid properties", liquidCompounds.size());
+
+        for (ChemLibDataExtractor.CompoundData compound : liquidCompounds) {
+            LOGGER.info("Found liquid compound: {} (has fluid properties: {})", compound.name, compound.fluidProperties != null);
+            if (compound.fluidProperties != null) {
+                registerCompoundFluid(compound);
             }
         }
     }
@@ -114,7 +115,7 @@ public class ChemLibFluidRegistry {
                 Math.round(element.fluidProperties.viscosity),
                 Math.round(element.fluidProperties.temperature),
                 element.fluidProperties.lightLevel,
-                element.color
+                element.argb
             );
 
             ELEMENT_FLUIDS.add(fluidEntry);
@@ -138,7 +139,7 @@ public class ChemLibFluidRegistry {
                 Math.round(compound.fluidProperties.viscosity),
                 Math.round(compound.fluidProperties.temperature),
                 compound.fluidProperties.lightLevel,
-                compound.color
+                compound.argb
             );
 
             COMPOUND_FLUIDS.add(fluidEntry);
@@ -199,14 +200,14 @@ public class ChemLibFluidRegistry {
     private static void registerGasFluid(String name, String hexColor, int density, int viscosity, int temperature) {
         try {
             ChemLibFluidEntry fluidEntry = createSimpleFluidEntry(
-                "liquid_" + name,  // Prefix with liquid_ to distinguish from gas form
+                GAS_FLUID_PREFIX + name,  // Prefix with liquid_ to distinguish from gas form
                 ResourceLocation.fromNamespaceAndPath(ChemlibMekanized.MODID, "block/fluid/liquid_still"),
                 ResourceLocation.fromNamespaceAndPath(ChemlibMekanized.MODID, "block/fluid/liquid_flow"),
                 density,
                 viscosity,
                 temperature,
                 0,  // No light for most liquefied gases
-                hexColor
+                ChemLibDataExtractor.parseColor(GAS_FLUID_PREFIX + name, hexColor)
             );
 
             GAS_FLUIDS.add(fluidEntry);
@@ -228,13 +229,8 @@ public class ChemLibFluidRegistry {
             int viscosity,
             int temperature,
             int lightLevel,
-            String hexColor
+            int colorInt
     ) {
-        // Parse hex color with alpha channel
-        int colorInt = (int) Long.parseLong(hexColor, 16);
-        if (hexColor.length() == 6) {
-            colorInt |= 0xFF000000; // Add full alpha if not specified
-        }
 
         // Register FluidType with chemical properties
         DeferredHolder<FluidType, FluidType> fluidType = FLUID_TYPES.register(name, () ->
@@ -297,6 +293,13 @@ public class ChemLibFluidRegistry {
         return new ArrayList<>(COMPOUND_FLUIDS);
     }
 
+    /**
+     * Gets all registered liquefied gas fluids
+     */
+    public static List<ChemLibFluidEntry> getGasFluids() {
+        return new ArrayList<>(GAS_FLUIDS);
+    }
+
     /**
      * Gets all registered fluids
      */
@@ -308,6 +311,15 @@ public class ChemLibFluidRegistry {
         return all;
     }
 
+    /**
+     * Visits every registered fluid with the name of the element or compound it is a form of, without copying.
+     */
+    static void forEachFluid(BiConsumer<String, ChemLibFluidEntry> visitor) {
+        ELEMENT_FLUIDS.forEach(entry -> visitor.accept(entry.name(), entry));
+        COMPOUND_FLUIDS.forEach(entry -> visitor.accept(entry.name(), entry));
+        GAS_FLUIDS.forEach(entry -> visitor.accept(entry.name().substring(GAS_FLUID_PREFIX.length()), entry));
+    }
+
     /**
      * Gets the total number of registered fluids
      */
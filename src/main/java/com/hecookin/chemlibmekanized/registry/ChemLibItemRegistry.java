@@ -1,7 +1,10 @@
 package com.hecookin.chemlibmekanized.registry;
 
 import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.api.MetalType;
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
+import com.hecookin.chemlibmekanized.extraction.MetalMaterials;
 import com.hecookin.chemlibmekanized.items.ExtractedElementItem;
 import com.hecookin.chemlibmekanized.items.ExtractedCompoundItem;
 import com.hecookin.chemlibmekanized.items.MetalIngotItem;
@@ -17,6 +20,7 @@ import net.minecraft.core.registries.Registries;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.DeferredHolder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -43,13 +47,7 @@ public class ChemLibItemRegistry {
                 var hydrogenItem = ELEMENT_ITEMS.get("hydrogen");
                 return hydrogenItem != null ? new ItemStack(hydrogenItem.get()) : ItemStack.EMPTY;
             })
-            .displayItems((parameters, output) -> {
-                ELEMENT_ITEMS.values().forEach(item -> {
-                    if (item != null && item.get() != null) {
-                        output.accept(item.get());
-                    }
-                });
-            })
+            .displayItems((parameters, output) -> TabContents.ELEMENTS.forEach(output::accept))
             .build()
     );
 
@@ -60,13 +58,7 @@ public class ChemLibItemRegistry {
                 var co2Item = COMPOUND_ITEMS.get("carbon_dioxide");
                 return co2Item != null ? new ItemStack(co2Item.get()) : ItemStack.EMPTY;
             })
-            .displayItems((parameters, output) -> {
-                COMPOUND_ITEMS.values().forEach(item -> {
-                    if (item != null && item.get() != null) {
-                        output.accept(item.get());
-                    }
-                });
-            })
+            .displayItems((parameters, output) -> TabContents.COMPOUNDS.forEach(output::accept))
             .build()
     );
 
@@ -77,64 +69,7 @@ public class ChemLibItemRegistry {
                 var ironItem = ELEMENT_ITEMS.get("iron");
                 return ironItem != null ? new ItemStack(ironItem.get()) : ItemStack.EMPTY;
             })
-            .displayItems((parameters, output) -> {
-                // Use a set to track added items and avoid duplicates
-                var addedItems = new java.util.HashSet<Item>();
-
-                // Add metal element items
-                ELEMENT_ITEMS.values().forEach(item -> {
-                    if (item != null && item.get() != null) {
-                        Item itemInstance = item.get();
-                        if (itemInstance instanceof ExtractedElementItem elementItem &&
-                            "metal".equals(elementItem.getMetalType()) &&
-                            addedItems.add(itemInstance)) {
-                            output.accept(itemInstance);
-                        }
-                    }
-                });
-
-                // Add metal ingot, nugget, plate, and crystal items (metals only)
-                METAL_INGOT_ITEMS.entrySet().forEach(entry -> {
-                    String metalName = entry.getKey();
-
-                    // Find the element item for this metal
-                    var elementHolder = ELEMENT_ITEMS.get(metalName);
-                    if (elementHolder != null && elementHolder.get() != null) {
-                        Item elementInstance = elementHolder.get();
-                        if (elementInstance instanceof ExtractedElementItem elementData &&
-                            elementData.getElementData() != null &&
-                            "metal".equals(elementData.getMetalType())) {
-
-                            // Add ingot
-                            if (entry.getValue() != null && entry.getValue().get() != null &&
-                                addedItems.add(entry.getValue().get())) {
-                                output.accept(entry.getValue().get());
-                            }
-
-                            // Add nugget
-                            var nugget = METAL_NUGGET_ITEMS.get(metalName);
-                            if (nugget != null && nugget.get() != null &&
-                                addedItems.add(nugget.get())) {
-                                output.accept(nugget.get());
-                            }
-
-                            // Add plate
-                            var plate = METAL_PLATE_ITEMS.get(metalName);
-                            if (plate != null && plate.get() != null &&
-                                addedItems.add(plate.get())) {
-                                output.accept(plate.get());
-                            }
-
-                            // Add crystal
-                            var crystal = METAL_CRYSTAL_ITEMS.get(metalName);
-                            if (crystal != null && crystal.get() != null &&
-                                addedItems.add(crystal.get())) {
-                                output.accept(crystal.get());
-                            }
-                        }
-                    }
-                });
-            })
+            .displayItems((parameters, output) -> TabContents.METALS.forEach(output::accept))
             .build()
     );
 
@@ -145,17 +80,7 @@ public class ChemLibItemRegistry {
                 var oxygenItem = ELEMENT_ITEMS.get("oxygen");
                 return oxygenItem != null ? new ItemStack(oxygenItem.get()) : ItemStack.EMPTY;
             })
-            .displayItems((parameters, output) -> {
-                ELEMENT_ITEMS.values().forEach(item -> {
-                    if (item != null && item.get() != null) {
-                        Item itemInstance = item.get();
-                        if (itemInstance instanceof ExtractedElementItem elementItem &&
-                            "nonmetal".equals(elementItem.getMetalType())) {
-                            output.accept(itemInstance);
-                        }
-                    }
-                });
-            })
+            .displayItems((parameters, output) -> TabContents.NON_METALS.forEach(output::accept))
             .build()
     );
 
@@ -166,70 +91,80 @@ public class ChemLibItemRegistry {
                 var siliconItem = ELEMENT_ITEMS.get("silicon");
                 return siliconItem != null ? new ItemStack(siliconItem.get()) : ItemStack.EMPTY;
             })
-            .displayItems((parameters, output) -> {
-                // Use a set to track added items and avoid duplicates
-                var addedItems = new java.util.HashSet<Item>();
-
-                // Add metalloid element items
-                ELEMENT_ITEMS.values().forEach(item -> {
-                    if (item != null && item.get() != null) {
-                        Item itemInstance = item.get();
-                        if (itemInstance instanceof ExtractedElementItem elementItem &&
-                            "metalloid".equals(elementItem.getMetalType()) &&
-                            addedItems.add(itemInstance)) {
-                            output.accept(itemInstance);
-                        }
-                    }
-                });
-
-                // Add metalloid ingot, nugget, plate, and crystal items
-                METAL_INGOT_ITEMS.entrySet().forEach(entry -> {
-                    String metalName = entry.getKey();
-
-                    // Find the element item for this metalloid
-                    var elementHolder = ELEMENT_ITEMS.get(metalName);
-                    if (elementHolder != null && elementHolder.get() != null) {
-                        Item elementInstance = elementHolder.get();
-                        if (elementInstance instanceof ExtractedElementItem elementData &&
-                            elementData.getElementData() != null &&
-                            "metalloid".equals(elementData.getMetalType())) {
-
-                            // Add ingot
-                            if (entry.getValue() != null && entry.getValue().get() != null &&
-                                addedItems.add(entry.getValue().get())) {
-                                output.accept(entry.getValue().get());
-                            }
-
-                            // Add nugget
-                            var nugget = METAL_NUGGET_ITEMS.get(metalName);
-                            if (nugget != null && nugget.get() != null &&
-                                addedItems.add(nugget.get())) {
-                                output.accept(nugget.get());
-                            }
-
-                            // Add plate
-                            var plate = METAL_PLATE_ITEMS.get(metalName);
-                            if (plate != null && plate.get() != null &&
-                                addedItems.add(plate.get())) {
-                                output.accept(plate.get());
-                            }
-
-                            // Add crystal
-                            var crystal = METAL_CRYSTAL_ITEMS.get(metalName);
-                            if (crystal != null && crystal.get() != null &&
-                                addedItems.add(crystal.get())) {
-                                output.accept(crystal.get());
-                            }
-                        }
-                    }
-                });
-            })
+            .displayItems((parameters, output) -> TabContents.METALLOIDS.forEach(output::accept))
             .build()
     );
 
+    /**
+     * Creative tab contents, resolved once when the first tab is built (always after item registration).
+     * Items rather than stacks, so every tab rebuild hands out fresh stacks.
+     * Elements and their metal forms are in atomic-number order; compounds keep the dataset order.
+     */
+    private static final class TabContents {
+        private static final List<Item> ELEMENTS = elements(null);
+        private static final List<Item> COMPOUNDS = compounds();
+        private static final List<Item> METALS = elementsWithMetalForms(MetalType.METAL);
+        private static final List<Item> NON_METALS = elements(MetalType.NONMETAL);
+        private static final List<Item> METALLOIDS = elementsWithMetalForms(MetalType.METALLOID);
+
+        /**
+         * Element items of the given metal type, or of every type if null.
+         */
+        private static List<Item> elements(MetalType metalType) {
+            List<Item> items = new ArrayList<>();
+            for (ChemLibDataExtractor.ElementData element : elementsByAtomicNumber()) {
+                if (metalType == null || element.metalType == metalType) {
+                    addItem(items, ELEMENT_ITEMS.get(element.name));
+                }
+            }
+            return List.copyOf(items);
+        }
+
+        /**
+         * Element items of the given metal type, followed by each element's ingot, nugget, plate and crystal.
+         */
+        private static List<Item> elementsWithMetalForms(MetalType metalType) {
+            List<Item> items = new ArrayList<>(elements(metalType));
+            for (ChemLibDataExtractor.ElementData element : elementsByAtomicNumber()) {
+                if (element.metalType == metalType && METAL_INGOT_ITEMS.containsKey(element.name)) {
+                    addItem(items, METAL_INGOT_ITEMS.get(element.name));
+                    addItem(items, METAL_NUGGET_ITEMS.get(element.name));
+                    addItem(items, METAL_PLATE_ITEMS.get(element.name));
+                    addItem(items, METAL_CRYSTAL_ITEMS.get(element.name));
+                }
+            }
+            return List.copyOf(items);
+        }
+
+        private static List<Item> compounds() {
+            List<Item> items = new ArrayList<>();
+            for (ChemLibDataExtractor.CompoundData compound : ChemLibDataset.get().compounds()) {
+                addItem(items, COMPOUND_ITEMS.get(compound.name));
+            }
+            return List.copyOf(items);
+        }
+
+        private static List<ChemLibDataExtractor.ElementData> elementsByAtomicNumber() {
+            ChemLibDataset dataset = ChemLibDataset.get();
+            List<ChemLibDataExtractor.ElementData> elements = new ArrayList<>();
+            for (int atomicNumber = 1; atomicNumber <= ChemLibDataset.MAX_ATOMIC_NUMBER; atomicNumber++) {
+                ChemLibDataExtractor.ElementData element = dataset.element(atomicNumber);
+                if (element != null) {
+                    elements.add(element);
+                }
+            }
+            return elements;
+        }
+
+        private static void addItem(List<Item> items, DeferredHolder<Item, Item> holder) {
+            if (holder != null && holder.get() != null) {
+                items.add(holder.get());
+            }
+        }
+    }
 
     public static void registerElements() {
-        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements();
+        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataset.get().elements();
 
         for (ChemLibDataExtractor.ElementData element : elements) {
             DeferredHolder<Item, Item> elementItem = ITEMS.register(element.name,
@@ -240,7 +175,7 @@ public class ChemLibItemRegistry {
     }
 
     public static void registerCompounds() {
-        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds();
+        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataset.get().compounds();
 
         for (ChemLibDataExtractor.CompoundData compound : compounds) {
             DeferredHolder<Item, Item> compoundItem = ITEMS.register(compound.name,
@@ -251,7 +186,7 @@ public class ChemLibItemRegistry {
     }
 
     public static void registerMetalIngots() {
-        List<ChemLibDataExtractor.ElementData> metals = ChemLibDataExtractor.extractMetals();
+        List<ChemLibDataExtractor.ElementData> metals = ChemLibDataset.get().metals();
 
         for (ChemLibDataExtractor.ElementData metal : metals) {
             String ingotName = metal.name + "_ingot";
@@ -264,7 +199,7 @@ public class ChemLibItemRegistry {
     }
 
     public static void registerMetalNuggets() {
-        List<ChemLibDataExtractor.ElementData> metals = ChemLibDataExtractor.extractMetals();
+        List<ChemLibDataExtractor.ElementData> metals = ChemLibDataset.get().metals();
 
         for (ChemLibDataExtractor.ElementData metal : metals) {
             String nuggetName = metal.name + "_nugget";
@@ -277,23 +212,25 @@ public class ChemLibItemRegistry {
     }
 
 
+    /**
+     * The only place crystal items are registered; see {@link MetalCrystalRegistry} for lookups.
+     */
     public static void registerMetalCrystals() {
-        // extractMetals() already includes both metals AND metalloids
-        List<ChemLibDataExtractor.ElementData> metalsAndMetalloids = ChemLibDataExtractor.extractMetals();
-
-        // Register crystals for all metals and metalloids (no need to separate)
-        for (ChemLibDataExtractor.ElementData element : metalsAndMetalloids) {
-            String crystalName = element.name + "_crystal";
+        // Every solid metal and metalloid in the dataset, matching the slurries
+        List<MetalMaterials.Material> crystals = MetalMaterials.get().crystals();
+        MetalCrystalRegistry.checkUniqueIds(ITEMS, crystals);
+        for (MetalMaterials.Material material : crystals) {
+            String crystalName = MetalCrystalRegistry.crystalId(material.name());
             DeferredHolder<Item, Item> crystalItem = ITEMS.register(crystalName,
-                () -> new MetalCrystalItem(element));
-            METAL_CRYSTAL_ITEMS.put(element.name, crystalItem);
+                () -> new MetalCrystalItem(material.element()));
+            METAL_CRYSTAL_ITEMS.put(material.name(), crystalItem);
         }
 
         ChemlibMekanized.LOGGER.info("Registered {} metal/metalloid crystals", METAL_CRYSTAL_ITEMS.size());
     }
 
         public static void registerMetalPlates() {
-        List<ChemLibDataExtractor.ElementData> metals = ChemLibDataExtractor.extractMetals();
+        List<ChemLibDataExtractor.ElementData> metals = ChemLibDataset.get().metals();
 
         for (ChemLibDataExtractor.ElementData metal : metals) {
             String plateName = metal.name + "_plate";
@@ -313,7 +250,7 @@ public class ChemLibItemRegistry {
         registerMetalNuggets();
         registerMetalPlates();
         registerMetalCrystals();
-        ChemlibMekanized.LOGGER.info("ChemLib content extraction completed - {} elements, {} compounds, {} metal ingots, {} nuggets, {} plates",
+        ChemlibMekanized.LOGGER.info("ChemLib content extraction completed - {} elements, {} compounds, {} metal ingots, {} nuggets, {} plates, {} crystals",
                                    ELEMENT_ITEMS.size(), COMPOUND_ITEMS.size(), METAL_INGOT_ITEMS.size(),
                                    METAL_NUGGET_ITEMS.size(), METAL_PLATE_ITEMS.size(), METAL_CRYSTAL_ITEMS.size());
     }
@@ -0,0 +1,164 @@
+package com.hecookin.chemlibmekanized.registry;
+
+import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.api.MatterState;
+import mekanism.api.chemical.Chemical;
+import mekanism.common.registries.MekanismChemicals;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Maps a ChemLib element or compound name and matter state to the Mekanism {@link Chemical} that represents it:
+ * one of ours from {@link ChemlibMekanizedChemicals}, or Mekanism's own where we reuse it.
+ *
+ * <p>The table is resolved once, after the chemical registry has been bound (common setup), into immutable
+ * maps; every lookup after that is a single hash lookup with no string normalization on the hot path.
+ * The static accessors in {@link ChemlibMekanizedChemicals} and {@code MekanismChemLibIntegration} delegate here.</p>
+ */
+public final class ChemicalResolver {
+
+    private static volatile ChemicalResolver instance;
+
+    private final Map<MatterState, Map<String, Chemical>> elements;
+    private final Map<MatterState, Map<String, Chemical>> compounds;
+
+    private ChemicalResolver(Map<MatterState, Map<String, Chemical>> elements,
+                             Map<MatterState, Map<String, Chemical>> compounds) {
+        this.elements = elements;
+        this.compounds = compounds;
+    }
+
+    /**
+     * Get the resolver, resolving the table on first call.
+     * Must not be called before the Mekanism chemical registry is bound.
+     */
+    public static ChemicalResolver get() {
+        ChemicalResolver resolver = instance;
+        if (resolver == null) {
+            synchronized (ChemicalResolver.class) {
+                resolver = instance;
+                if (resolver == null) {
+                    // Not cached if resolving throws (registry not bound yet), so a later call can retry
+                    resolver = build();
+                    instance = resolver;
+                }
+            }
+        }
+        return resolver;
+    }
+
+    /**
+     * @return the chemical for this element in this matter state, or null if there is none
+     */
+    public Chemical element(String name, MatterState matterState) {
+        return lookup(elements, name, matterState);
+    }
+
+    /**
+     * @return the chemical for this compound in this matter state, or null if there is none
+     */
+    public Chemical compound(String name, MatterState matterState) {
+        return lookup(compounds, name, matterState);
+    }
+
+    /**
+     * @return every element chemical in this matter state, keyed by element name (immutable)
+     */
+    public Map<String, Chemical> elements(MatterState matterState) {
+        return elements.getOrDefault(matterState, Map.of());
+    }
+
+    /**
+     * @return every compound chemical in this matter state, keyed by compound name (immutable)
+     */
+    public Map<String, Chemical> compounds(MatterState matterState) {
+        return compounds.getOrDefault(matterState, Map.of());
+    }
+
+    private static Chemical lookup(Map<MatterState, Map<String, Chemical>> table, String name, MatterState matterState) {
+        if (name == null || matterState == null) {
+            return null;
+        }
+        Map<String, Chemical> byName = table.get(matterState);
+        if (byName == null) {
+            return null;
+        }
+        Chemical chemical = byName.get(name);
+        if (chemical == null) {
+            // Keys are ChemLib's lower-case names; only pay for normalization when the caller's name misses
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            if (!lowerCaseName.equals(name)) {
+                chemical = byName.get(lowerCaseName);
+            }
+        }
+        return chemical;
+    }
+
+    private static ChemicalResolver build() {
+        Table elements = new Table();
+        // Gas elements; hydrogen, oxygen and chlorine are Mekanism's own
+        elements.put(MatterState.GAS, "helium", ChemlibMekanizedChemicals.HELIUM);
+        elements.put(MatterState.GAS, "nitrogen", ChemlibMekanizedChemicals.NITROGEN);
+        elements.put(MatterState.GAS, "fluorine", ChemlibMekanizedChemicals.FLUORINE);
+        elements.put(MatterState.GAS, "neon", ChemlibMekanizedChemicals.NEON);
+        elements.put(MatterState.GAS, "argon", ChemlibMekanizedChemicals.ARGON);
+        elements.put(MatterState.GAS, "krypton", ChemlibMekanizedChemicals.KRYPTON);
+        elements.put(MatterState.GAS, "xenon", ChemlibMekanizedChemicals.XENON);
+        elements.put(MatterState.GAS, "radon", ChemlibMekanizedChemicals.RADON);
+        elements.put(MatterState.GAS, "hydrogen", MekanismChemicals.HYDROGEN);
+        elements.put(MatterState.GAS, "oxygen", MekanismChemicals.OXYGEN);
+        elements.put(MatterState.GAS, "chlorine", MekanismChemicals.CHLORINE);
+        // Liquid elements as slurries; mercury is a fluid, not a slurry
+        elements.put(MatterState.LIQUID, "bromine", ChemlibMekanizedChemicals.BROMINE_SLURRY);
+
+        Table compounds = new Table();
+        // Gas compounds; sulfur dioxide is Mekanism's own
+        compounds.put(MatterState.GAS, "carbon_dioxide", ChemlibMekanizedChemicals.CARBON_DIOXIDE);
+        compounds.put(MatterState.GAS, "ethylene", ChemlibMekanizedChemicals.ETHYLENE);
+        compounds.put(MatterState.GAS, "ammonium", ChemlibMekanizedChemicals.AMMONIUM);
+        compounds.put(MatterState.GAS, "methane", ChemlibMekanizedChemicals.METHANE);
+        compounds.put(MatterState.GAS, "ethane", ChemlibMekanizedChemicals.ETHANE);
+        compounds.put(MatterState.GAS, "propane", ChemlibMekanizedChemicals.PROPANE);
+        compounds.put(MatterState.GAS, "butane", ChemlibMekanizedChemicals.BUTANE);
+        compounds.put(MatterState.GAS, "sulfur_dioxide", MekanismChemicals.SULFUR_DIOXIDE);
+        compounds.put(MatterState.GAS, "nitrogen_dioxide", ChemlibMekanizedChemicals.NITROGEN_DIOXIDE);
+        compounds.put(MatterState.GAS, "ammonia", ChemlibMekanizedChemicals.AMMONIA);
+        compounds.put(MatterState.GAS, "hydrogen_sulfide", ChemlibMekanizedChemicals.HYDROGEN_SULFIDE);
+        compounds.put(MatterState.GAS, "acetylene", ChemlibMekanizedChemicals.ACETYLENE);
+        compounds.put(MatterState.GAS, "carbon_monoxide", ChemlibMekanizedChemicals.CARBON_MONOXIDE);
+        compounds.put(MatterState.GAS, "nitric_oxide", ChemlibMekanizedChemicals.NITRIC_OXIDE);
+        // Liquid compounds are fluids in ChemLibFluidRegistry, except the acids used as chemicals
+        compounds.put(MatterState.LIQUID, "hydrochloric_acid", ChemlibMekanizedChemicals.HYDROCHLORIC_ACID);
+        compounds.put(MatterState.LIQUID, "nitric_acid", ChemlibMekanizedChemicals.NITRIC_ACID);
+
+        ChemicalResolver resolver = new ChemicalResolver(elements.freeze(), compounds.freeze());
+        ChemlibMekanized.LOGGER.info("Resolved ChemLib chemical table - {} element and {} compound chemicals",
+            elements.size, compounds.size);
+        return resolver;
+    }
+
+    /**
+     * Mutable table used only while building.
+     */
+    private static final class Table {
+        private final Map<MatterState, Map<String, Chemical>> byState = new EnumMap<>(MatterState.class);
+        private int size = 0;
+
+        void put(MatterState matterState, String name, Supplier<? extends Chemical> chemical) {
+            Chemical previous = byState.computeIfAbsent(matterState, state -> new HashMap<>()).put(name, chemical.get());
+            if (previous == null) {
+                size++;
+            }
+        }
+
+        Map<MatterState, Map<String, Chemical>> freeze() {
+            Map<MatterState, Map<String, Chemical>> frozen = new EnumMap<>(MatterState.class);
+            byState.forEach((matterState, byName) -> frozen.put(matterState, Map.copyOf(byName)));
+            return frozen;
+        }
+    }
+}
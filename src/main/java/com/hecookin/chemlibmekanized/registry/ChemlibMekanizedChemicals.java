@@ -1,18 +1,19 @@
 package com.hecookin.chemlibmekanized.registry;
 
 import com.hecookin.chemlibmekanized.ChemlibMekanized;
+import com.hecookin.chemlibmekanized.api.MatterState;
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
+import com.hecookin.chemlibmekanized.extraction.MetalMaterials;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalBuilder;
 import mekanism.common.registration.impl.ChemicalDeferredRegister;
 import mekanism.common.registration.impl.DeferredChemical;
 import mekanism.common.registration.impl.SlurryRegistryObject;
-import mekanism.common.registries.MekanismChemicals;
 import net.minecraft.resources.ResourceLocation;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -32,148 +33,6 @@ public class ChemlibMekanizedChemicals {
     // Map to hold all our metal slurries
     public static final Map<String, SlurryRegistryObject<Chemical, Chemical>> METAL_SLURRIES = new LinkedHashMap<>();
 
-    // Define metals with their colors (from ChemLib's element colors)
-    public enum ChemLibMetal {
-        // Common metals (excluding those in Mekanism: iron, gold, copper, tin, lead, uranium, osmium)
-        ALUMINUM("aluminum", 0xFFD9D9D9),
-        TITANIUM("titanium", 0xFF6375FF),
-        ZINC("zinc", 0xFFA0997D),
-        NICKEL("nickel", 0xFF62764C),
-        SILVER("silver", 0xFFC1C7C7),
-        PLATINUM("platinum", 0xFFD2D3D3),
-
-        // Rare metals
-        TUNGSTEN("tungsten", 0xFF2B313E),
-        CHROMIUM("chromium", 0xFF481A5D),
-        MANGANESE("manganese", 0xFFC7A385),
-        COBALT("cobalt", 0xFF6666FF),
-        CADMIUM("cadmium", 0xFF9A2B34),
-        MERCURY("mercury", 0xFF9D9F9F),
-
-        // Precious metals (beyond vanilla gold)
-        PALLADIUM("palladium", 0xFF704158),
-        RHODIUM("rhodium", 0xFF827569),
-        IRIDIUM("iridium", 0xFF2F5EEF),
-        RUTHENIUM("ruthenium", 0xFF715F63),
-
-        // Radioactive metals (excluding uranium which Mekanism has)
-        THORIUM("thorium", 0xFF5F4533),
-
-        // Alkali/Alkaline metals
-        LITHIUM("lithium", 0xFF8F243E),
-        SODIUM("sodium", 0xFFD3C683),
-        POTASSIUM("potassium", 0xFFC6985F),
-        CALCIUM("calcium", 0xFFDBD2C7),
-        MAGNESIUM("magnesium", 0xFFEDADEC),
-        BARIUM("barium", 0xFFC7BCA8),
-        STRONTIUM("strontium", 0xFF536998),
-
-        // Metalloids that act like metals
-        SILICON("silicon", 0xFFADB279),
-        GERMANIUM("germanium", 0xFFCCD4C0),
-        ANTIMONY("antimony", 0xFF855770),
-        BISMUTH("bismuth", 0xFF3D9185),
-
-        // Lanthanides (Rare Earth)
-        CERIUM("cerium", 0xFF662C5E),
-        NEODYMIUM("neodymium", 0xFF8C696B),
-        LANTHANUM("lanthanum", 0xFFBA9160),
-        GADOLINIUM("gadolinium", 0xFF915536),
-        EUROPIUM("europium", 0xFFCE81B3),
-        DYSPROSIUM("dysprosium", 0xFF6F8F6F),
-        ERBIUM("erbium", 0xFF9A679A),
-        HOLMIUM("holmium", 0xFF7A5F7A),
-        LUTETIUM("lutetium", 0xFF5F8F5F),
-        PRASEODYMIUM("praseodymium", 0xFFD9FFB2),
-        PROMETHIUM("promethium", 0xFFA3FFA3),
-        SAMARIUM("samarium", 0xFFFFFFCC),
-        TERBIUM("terbium", 0xFF6F6F8F),
-        THULIUM("thulium", 0xFF007F7F),
-        YTTERBIUM("ytterbium", 0xFF9F9F6F),
-
-        // Transuranics and super-heavy elements
-        EINSTEINIUM("einsteinium", 0xFF1F79AE),
-        FERMIUM("fermium", 0xFFE3CDA1),
-        MENDELEVIUM("mendelevium", 0xFF1512B4),
-        NOBELIUM("nobelium", 0xFF7E41E8),
-        LAWRENCIUM("lawrencium", 0xFF898A8C),
-        RUTHERFORDIUM("rutherfordium", 0xFF333236),
-        DUBNIUM("dubnium", 0xFFAB7A5F),
-        SEABORGIUM("seaborgium", 0xFFF75320),
-        BOHRIUM("bohrium", 0xFF54B889),
-        HASSIUM("hassium", 0xFF8A8951),
-        MEITNERIUM("meitnerium", 0xFF6F5D3A),
-        DARMSTADTIUM("darmstadtium", 0xFF325AA6),
-        ROENTGENIUM("roentgenium", 0xFF80B848),
-        COPERNICIUM("copernicium", 0xFFE39349),
-        NIHONIUM("nihonium", 0xFF5E0009),
-        FLEROVIUM("flerovium", 0xFF654685),
-        MOSCOVIUM("moscovium", 0xFF18F2AD),
-        LIVERMORIUM("livermorium", 0xFF487D3B),
-
-        // Other useful metals
-        INDIUM("indium", 0xFF86847F),
-        GALLIUM("gallium", 0xFFA1A8C1),
-        HAFNIUM("hafnium", 0xFF243267),
-        TANTALUM("tantalum", 0xFFA81E20),
-        RHENIUM("rhenium", 0xFF1B1D1B),
-        MOLYBDENUM("molybdenum", 0xFF6D7E9A),
-        VANADIUM("vanadium", 0xFF647689),
-        NIOBIUM("niobium", 0xFF734D54),
-        BERYLLIUM("beryllium", 0xFF21A17E),
-        ZIRCONIUM("zirconium", 0xFFD3BB8F),
-        SCANDIUM("scandium", 0xFFFCFF63),
-        YTTRIUM("yttrium", 0xFFB366C4),
-
-        // Additional metals (excluding tin, lead, osmium which Mekanism has)
-        THALLIUM("thallium", 0xFF785445),
-        POLONIUM("polonium", 0xFF29443F),
-        TECHNETIUM("technetium", 0xFF758489),
-        RUBIDIUM("rubidium", 0xFFEE88FD),
-        CESIUM("cesium", 0xFFCBAC2A),
-        FRANCIUM("francium", 0xFF9A410C),
-        RADIUM("radium", 0xFF3C9C6F),
-
-        // Additional metalloids
-        ARSENIC("arsenic", 0xFF8C3F31),
-        TELLURIUM("tellurium", 0xFF275B1A),
-        BORON("boron", 0xFF3E4A60),
-        ASTATINE("astatine", 0xFF9FC413),
-
-        // Post-transition metals
-        ALUMINUM_ALT("aluminium", 0xFFD9D9D9),  // Alternative spelling
-        GALLIUM_ARSENIDE("gallium_arsenide", 0xFF8F8F8F),  // Compound but useful
-
-        // Actinides (besides Thorium and Uranium)
-        ACTINIUM("actinium", 0xFF7781F9),
-        PROTACTINIUM("protactinium", 0xFF3E8863),
-        NEPTUNIUM("neptunium", 0xFF657065),
-        PLUTONIUM("plutonium", 0xFFDB6E22),
-        AMERICIUM("americium", 0xFFAB8040),
-        CURIUM("curium", 0xFF920133),
-        BERKELIUM("berkelium", 0xFFB48B41),
-        CALIFORNIUM("californium", 0xFFB47148),
-
-        // Additional transition metals
-        TUNGSTEN_ALT("wolfram", 0xFF2B313E);  // Alternative name for tungsten
-
-        private final String name;
-        private final int tint;
-
-        ChemLibMetal(String name, int tint) {
-            this.name = name;
-            this.tint = tint;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public int getTint() {
-            return tint;
-        }
-    }
-
     // Initialize ChemLib color mapping and slurry registrations
     static {
         loadChemLibColors();
@@ -250,147 +109,54 @@ public class ChemlibMekanizedChemicals {
      * Get element chemical by name and matter state.
      */
     public static Chemical getElementChemical(String elementName, String matterState) {
-        if ("gas".equals(matterState)) {
-            return switch (elementName.toLowerCase()) {
-                // Use Mekanism's hydrogen
-                // case "hydrogen" -> HYDROGEN.get();
-                case "helium" -> HELIUM.get();
-                case "nitrogen" -> NITROGEN.get();
-                // Use Mekanism's oxygen
-                // case "oxygen" -> OXYGEN.get();
-                case "fluorine" -> FLUORINE.get();
-                case "neon" -> NEON.get();
-                // Use Mekanism's chlorine - handled in default with Mekanism lookup
-                // case "chlorine" -> CHLORINE.get();
-                case "argon" -> ARGON.get();
-                case "krypton" -> KRYPTON.get();
-                case "xenon" -> XENON.get();
-                case "radon" -> RADON.get();
-                // Special cases - use Mekanism's built-in chemicals
-                case "hydrogen" -> MekanismChemicals.HYDROGEN.get();
-                case "oxygen" -> MekanismChemicals.OXYGEN.get();
-                case "chlorine" -> MekanismChemicals.CHLORINE.get();
-                default -> null;
-            };
-        } else if ("liquid".equals(matterState)) {
-            return switch (elementName.toLowerCase()) {
-                case "bromine" -> BROMINE_SLURRY.get();
-                // Mercury is registered as a fluid, not a slurry
-                // case "mercury" -> MERCURY_SLURRY.get();
-                default -> null;
-            };
-        }
-        return null;
+        return ChemicalResolver.get().element(elementName, MatterState.byName(matterState));
     }
 
     /**
      * Get compound chemical by name and matter state.
      */
     public static Chemical getCompoundChemical(String compoundName, String matterState) {
-        if ("gas".equals(matterState)) {
-            return switch (compoundName.toLowerCase()) {
-                case "carbon_dioxide" -> CARBON_DIOXIDE.get();
-                case "ethylene" -> ETHYLENE.get();
-                case "ammonium" -> AMMONIUM.get();
-                case "methane" -> METHANE.get();
-                case "ethane" -> ETHANE.get();
-                case "propane" -> PROPANE.get();
-                case "butane" -> BUTANE.get();
-                case "sulfur_dioxide" -> MekanismChemicals.SULFUR_DIOXIDE.get();
-                case "nitrogen_dioxide" -> NITROGEN_DIOXIDE.get();
-                case "ammonia" -> AMMONIA.get();
-                case "hydrogen_sulfide" -> HYDROGEN_SULFIDE.get();
-                case "acetylene" -> ACETYLENE.get();
-                case "carbon_monoxide" -> CARBON_MONOXIDE.get();
-                case "nitric_oxide" -> NITRIC_OXIDE.get();
-                default -> null;
-            };
-        } else if ("liquid".equals(matterState)) {
-            return switch (compoundName.toLowerCase()) {
-                // Liquid compounds are registered as fluids in ChemLibFluidRegistry, not as slurries
-                // Water should use Mekanism's water_vapor
-                // case "water" -> WATER_SLURRY.get();
-                // case "ethanol" -> ETHANOL_SLURRY.get();
-                // case "propan-1-ol" -> PROPAN_1_OL_SLURRY.get();
-                // case "propan-2-ol" -> PROPAN_2_OL_SLURRY.get();
-                // case "pentane" -> PENTANE_SLURRY.get();
-                // case "hexane" -> HEXANE_SLURRY.get();
-                // case "heptane" -> HEPTANE_SLURRY.get();
-                // case "epinephrine" -> EPINEPHRINE_SLURRY.get();
-                case "hydrochloric_acid" -> HYDROCHLORIC_ACID.get();  // Special case - acids as chemicals
-                // case "sulfuric_acid" -> SULFURIC_ACID_SLURRY.get();
-                case "nitric_acid" -> NITRIC_ACID.get();  // Special case - acids as chemicals
-                // case "acetic_acid" -> ACETIC_ACID_SLURRY.get();
-                // case "carbon_disulfide" -> CARBON_DISULFIDE_SLURRY.get();
-                // case "sulfur_trioxide" -> SULFUR_TRIOXIDE_SLURRY.get();
-                default -> null;
-            };
-        }
-        return null;
+        return ChemicalResolver.get().compound(compoundName, MatterState.byName(matterState));
     }
 
     /**
      * Legacy method for backwards compatibility.
      */
     public static Chemical getElementGas(String elementName) {
-        return getElementChemical(elementName, "gas");
+        return ChemicalResolver.get().element(elementName, MatterState.GAS);
     }
 
     /**
      * Legacy method for backwards compatibility.
      */
     public static Chemical getCompoundGas(String compoundName) {
-        return getCompoundChemical(compoundName, "gas");
+        return ChemicalResolver.get().compound(compoundName, MatterState.GAS);
     }
 
     /**
      * Check if an element has a gas form registered.
      */
     public static boolean hasElementGas(String elementName) {
-        return getElementChemical(elementName, "gas") != null;
+        return getElementGas(elementName) != null;
     }
 
     /**
      * Check if a compound has a gas form registered.
      */
     public static boolean hasCompoundGas(String compoundName) {
-        return getCompoundChemical(compoundName, "gas") != null;
+        return getCompoundGas(compoundName) != null;
     }
 
     /**
      * Load ChemLib colors from extracted data.
      */
     private static void loadChemLibColors() {
-        // Load element colors
-        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements();
-        for (ChemLibDataExtractor.ElementData element : elements) {
-            if (element.color != null && !element.color.isEmpty()) {
-                try {
-                    int color = (int) Long.parseLong(element.color, 16);
-                    if (element.color.length() == 6) {
-                        color |= 0xFF000000; // Add full alpha if not specified
-                    }
-                    CHEMLIB_COLORS.put(element.name, color);
-                } catch (NumberFormatException e) {
-                    ChemlibMekanized.LOGGER.warn("Invalid color format for element {}: {}", element.name, element.color);
-                }
-            }
+        // Colors are parsed and validated once when the dataset loads
+        for (ChemLibDataExtractor.ElementData element : ChemLibDataset.get().elements()) {
+            CHEMLIB_COLORS.put(element.name, element.argb);
         }
-
-        // Load compound colors
-        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds();
-        for (ChemLibDataExtractor.CompoundData compound : compounds) {
-            if (compound.color != null && !compound.color.isEmpty()) {
-                try {
-                    int color = (int) Long.parseLong(compound.color, 16);
-                    if (compound.color.length() == 6) {
-                        color |= 0xFF000000; // Add full alpha if not specified
-                    }
-                    CHEMLIB_COLORS.put(compound.name, color);
-                } catch (NumberFormatException e) {
-                    ChemlibMekanized.LOGGER.warn("Invalid color format for compound {}: {}", compound.name, compound.color);
-                }
-            }
+        for (ChemLibDataExtractor.CompoundData compound : ChemLibDataset.get().compounds()) {
+            CHEMLIB_COLORS.put(compound.name, compound.argb);
         }
 
         ChemlibMekanized.LOGGER.info("Loaded {} ChemLib colors for chemical consistency", CHEMLIB_COLORS.size());
@@ -442,18 +208,10 @@ public class ChemlibMekanizedChemicals {
      * Register all slurries during static initialization.
      */
     private static void registerAllSlurries() {
-        // Register all metal slurries
-        for (ChemLibMetal metal : ChemLibMetal.values()) {
-            SlurryRegistryObject<Chemical, Chemical> slurry = registerSlurry(metal.getName(), metal.getTint());
-            METAL_SLURRIES.put(metal.getName(), slurry);
+        // Metals, metalloids and the extra materials come from the dataset and the override file
+        for (MetalMaterials.Material material : MetalMaterials.get().slurries()) {
+            METAL_SLURRIES.put(material.name(), registerSlurry(material.name(), material.argb()));
         }
-
-        // Also register special slurries for non-metal materials
-        METAL_SLURRIES.put("quartz", registerSlurry("quartz", 0xFFE6D2D2));
-        METAL_SLURRIES.put("lapis", registerSlurry("lapis", 0xFF345EC3));
-        METAL_SLURRIES.put("coal", registerSlurry("coal", 0xFF202020));
-        METAL_SLURRIES.put("netherite_scrap", registerSlurry("netherite_scrap", 0xFF6D4C47));
-        METAL_SLURRIES.put("emerald", registerSlurry("emerald", 0xFF2EB82E));
         // Note: Diamond, Redstone, and Refined Obsidian are handled by Mekanism as infusion types
     }
 
@@ -0,0 +1,54 @@
+package com.hecookin.chemlibmekanized.util;
+
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDatasetCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Build-time utility that compiles ChemLib's elements.json and compounds.json
+ * into the binary dataset bundled in the mod jar.
+ * Invoked by the compileChemLibDataset Gradle task.
+ *
+ * Usage: ChemLibDatasetCompiler &lt;chemlib data dir&gt; &lt;output file&gt;
+ */
+public class ChemLibDatasetCompiler {
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: ChemLibDatasetCompiler <chemlib data dir> <output file>");
+            System.exit(2);
+        }
+
+        Path dataDir = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        System.out.println("Compiling ChemLib dataset from " + dataDir + "...");
+
+        try {
+            List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements(dataDir);
+            List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds(dataDir);
+            if (elements.isEmpty()) {
+                System.err.println("No elements read from " + dataDir + " - refusing to write an empty dataset");
+                System.exit(1);
+            }
+
+            Files.createDirectories(output.getParent());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+                ChemLibDatasetCodec.write(elements, compounds, out);
+            }
+
+            System.out.println("Wrote " + elements.size() + " elements and " + compounds.size() + " compounds to "
+                + output + " (" + Files.size(output) + " bytes)");
+        } catch (IOException e) {
+            System.err.println("Error compiling ChemLib dataset: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.hecookin.chemlibmekanized.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.ComponentData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.CompoundData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.EffectData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.ElementData;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor.FluidProperties;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Development utility comparing the streaming ChemLib JSON parser against the
+ * previous Gson tree (DOM) parser: wall time and bytes allocated per full parse.
+ *
+ * Usage: ChemLibParserBenchmark &lt;chemlib data dir&gt; [iterations]
+ */
+public class ChemLibParserBenchmark {
+    private static final Gson GSON = new Gson();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ChemLibParserBenchmark <chemlib data dir> [iterations]");
+            System.exit(2);
+        }
+
+        Path dataDir = Paths.get(args[0]);
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        // Sanity check: both parsers must agree before their timings mean anything
+        int streamingCount = ChemLibDataExtractor.extractElements(dataDir).size() + ChemLibDataExtractor.extractCompounds(dataDir).size();
+        int treeCount = parseElementsTree(dataDir).size() + parseCompoundsTree(dataDir).size();
+        if (streamingCount != treeCount) {
+            System.err.println("Parsers disagree: streaming read " + streamingCount + " entries, tree read " + treeCount);
+            System.exit(1);
+        }
+
+        System.out.println("Parsing " + streamingCount + " entries from " + dataDir + ", " + iterations + " iterations each");
+        run("tree (JsonObject)", iterations, () -> {
+            parseElementsTree(dataDir);
+            parseCompoundsTree(dataDir);
+        });
+        run("streaming (JsonReader)", iterations, () -> {
+            ChemLibDataExtractor.extractElements(dataDir);
+            ChemLibDataExtractor.extractCompounds(dataDir);
+        });
+    }
+
+    private static void run(String label, int iterations, ParseTask task) throws IOException {
+        // Warm up so the JIT has compiled both paths before measuring
+        for (int i = 0; i < Math.max(10, iterations / 10); i++) {
+            task.parse();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.parse();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("%-24s %8.3f ms/parse %10d KiB allocated/parse%n",
+            label, elapsed / 1_000_000.0 / iterations, allocated / 1024 / iterations);
+    }
+
+    @FunctionalInterface
+    private interface ParseTask {
+        void parse() throws IOException;
+    }
+
+    // Previous tree-based parser, kept here only as the benchmark baseline
+
+    private static List<ElementData> parseElementsTree(Path dataDir) throws IOException {
+        List<ElementData> elements = new ArrayList<>();
+        try (FileReader reader = new FileReader(dataDir.resolve("elements.json").toFile())) {
+            JsonObject root = GSON.fromJson(reader, JsonObject.class);
+            for (JsonElement element : root.getAsJsonArray("elements")) {
+                JsonObject obj = element.getAsJsonObject();
+                String name = obj.get("name").getAsString();
+                elements.add(new ElementData(
+                    name,
+                    obj.get("atomic_number").getAsInt(),
+                    obj.get("abbreviation").getAsString(),
+                    ChemLibDataExtractor.parsePeriodicTableNumber(name, "group", obj.get("group").getAsString()),
+                    ChemLibDataExtractor.parsePeriodicTableNumber(name, "period", obj.get("period").getAsString()),
+                    ChemLibDataExtractor.parseMatterState(name, obj.get("matter_state").getAsString()),
+                    ChemLibDataExtractor.parseMetalType(name, obj.get("metal_type").getAsString()),
+                    obj.has("artificial") && obj.get("artificial").getAsBoolean(),
+                    true,
+                    ChemLibDataExtractor.parseColor(name, obj.get("color").getAsString()),
+                    ChemLibDataExtractor.isValidColor(obj.get("color").getAsString()),
+                    obj.has("fluid_properties") ? fluidPropertiesTree(obj.getAsJsonObject("fluid_properties")) : null,
+                    effectsTree(obj)));
+            }
+        }
+        return elements;
+    }
+
+    private static List<CompoundData> parseCompoundsTree(Path dataDir) throws IOException {
+        List<CompoundData> compounds = new ArrayList<>();
+        try (FileReader reader = new FileReader(dataDir.resolve("compounds.json").toFile())) {
+            JsonObject root = GSON.fromJson(reader, JsonObject.class);
+            for (JsonElement compound : root.getAsJsonArray("compounds")) {
+                JsonObject obj = compound.getAsJsonObject();
+                if (obj.has("has_fluid") && obj.get("has_fluid").getAsBoolean()) {
+                    continue;
+                }
+
+                List<ComponentData> components = new ArrayList<>();
+                if (obj.has("components")) {
+                    for (JsonElement componentElement : obj.getAsJsonArray("components")) {
+                        JsonObject componentObj = componentElement.getAsJsonObject();
+                        components.add(new ComponentData(componentObj.get("name").getAsString(),
+                            componentObj.has("count") ? componentObj.get("count").getAsInt() : 1));
+                    }
+                }
+
+                String name = obj.get("name").getAsString();
+                compounds.add(new CompoundData(
+                    name,
+                    ChemLibDataExtractor.parseMatterState(name, obj.get("matter_state").getAsString()),
+                    obj.has("has_item") && obj.get("has_item").getAsBoolean(),
+                    obj.has("description") ? obj.get("description").getAsString() : "",
+                    ChemLibDataExtractor.parseColor(name, obj.get("color").getAsString()),
+                    ChemLibDataExtractor.isValidColor(obj.get("color").getAsString()),
+                    obj.has("fluid_properties") ? fluidPropertiesTree(obj.getAsJsonObject("fluid_properties")) : null,
+                    List.copyOf(components),
+                    effectsTree(obj)));
+            }
+        }
+        return compounds;
+    }
+
+    private static FluidProperties fluidPropertiesTree(JsonObject fluidObj) {
+        return new FluidProperties(
+            fluidObj.get("density").getAsInt(),
+            fluidObj.get("light_level").getAsInt(),
+            fluidObj.get("viscosity").getAsInt(),
+            fluidObj.get("temperature").getAsInt(),
+            fluidObj.get("motion_scale").getAsDouble(),
+            fluidObj.get("fall_distance_modifier").getAsDouble(),
+            fluidObj.get("path_type").getAsString(),
+            fluidObj.get("push_entity").getAsBoolean(),
+            fluidObj.get("can_swim").getAsBoolean(),
+            fluidObj.get("can_drown").getAsBoolean(),
+            fluidObj.get("can_hydrate").getAsBoolean(),
+            fluidObj.get("can_extinguish").getAsBoolean(),
+            fluidObj.get("supports_boating").getAsBoolean(),
+            fluidObj.get("can_convert_to_source").getAsBoolean());
+    }
+
+    private static List<EffectData> effectsTree(JsonObject obj) {
+        List<EffectData> effects = new ArrayList<>();
+        if (obj.has("effect")) {
+            for (JsonElement effectElement : obj.getAsJsonArray("effect")) {
+                JsonObject effectObj = effectElement.getAsJsonObject();
+                effects.add(new EffectData(
+                    effectObj.get("location").getAsString(),
+                    Integer.parseInt(effectObj.get("duration").getAsString()),
+                    effectObj.get("amplifier").getAsInt()));
+            }
+        }
+        return List.copyOf(effects);
+    }
+}
@@ -1,6 +1,7 @@
 package com.hecookin.chemlibmekanized.util;
 
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
@@ -34,55 +35,25 @@ public class ModelGenerator {
     }
 
     private static void generateElementModels() throws IOException {
-        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements();
+        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataset.get().elements();
 
         for (ChemLibDataExtractor.ElementData element : elements) {
-            String templateName = getElementTemplate(element.matterState);
+            String templateName = element.modelTemplate.getModelName();
             generateModelFile(element.name, templateName);
             System.out.println("Generated model for element: " + element.name + " (" + element.abbreviation + ") -> " + templateName);
         }
     }
 
     private static void generateCompoundModels() throws IOException {
-        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds();
+        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataset.get().compounds();
 
         for (ChemLibDataExtractor.CompoundData compound : compounds) {
-            String templateName = getCompoundTemplate(compound);
+            String templateName = compound.modelTemplate.getModelName();
             generateModelFile(compound.name, templateName);
             System.out.println("Generated model for compound: " + compound.name + " -> " + templateName);
         }
     }
 
-    private static String getElementTemplate(String matterState) {
-        return switch (matterState.toLowerCase()) {
-            case "solid" -> "element_solid_model";
-            case "liquid" -> "element_liquid_model";
-            case "gas" -> "element_gas_model";
-            default -> "element_solid_model"; // fallback
-        };
-    }
-
-    private static String getCompoundTemplate(ChemLibDataExtractor.CompoundData compound) {
-        String matterState = compound.matterState.toLowerCase();
-
-        // Special logic for dust compounds (same as renderer logic)
-        if ("solid".equals(matterState)) {
-            String name = compound.name.toLowerCase();
-            if (name.contains("oxide") || name.contains("sulfate") ||
-                name.contains("chromate") || name.contains("purple") ||
-                name.contains("iodide")) {
-                return "compound_dust_model";
-            }
-        }
-
-        return switch (matterState) {
-            case "solid" -> "compound_solid_model";
-            case "liquid" -> "compound_liquid_model";
-            case "gas" -> "compound_gas_model";
-            default -> "compound_solid_model"; // fallback
-        };
-    }
-
     private static void generateModelFile(String itemName, String templateName) throws IOException {
         Map<String, String> model = new HashMap<>();
         model.put("parent", "chemlibmekanized:item/" + templateName);
@@ -1,6 +1,7 @@
 package com.hecookin.chemlibmekanized.util;
 
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
@@ -34,7 +35,7 @@ public class StaticModelGenerator {
     }
 
     private static void generateElementModels() throws IOException {
-        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements();
+        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataset.get().elements();
 
         for (ChemLibDataExtractor.ElementData element : elements) {
             generateStaticModelFile(element.name);
@@ -43,7 +44,7 @@ public class StaticModelGenerator {
     }
 
     private static void generateCompoundModels() throws IOException {
-        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds();
+        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataset.get().compounds();
 
         for (ChemLibDataExtractor.CompoundData compound : compounds) {
             generateStaticModelFile(compound.name);
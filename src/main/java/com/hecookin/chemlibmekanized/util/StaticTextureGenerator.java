@@ -1,6 +1,7 @@
 package com.hecookin.chemlibmekanized.util;
 
 import com.hecookin.chemlibmekanized.extraction.ChemLibDataExtractor;
+import com.hecookin.chemlibmekanized.extraction.ChemLibDataset;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
@@ -38,55 +39,25 @@ public class StaticTextureGenerator {
     }
 
     private static void generateElementTextures() throws IOException {
-        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataExtractor.extractElements();
+        List<ChemLibDataExtractor.ElementData> elements = ChemLibDataset.get().elements();
 
         for (ChemLibDataExtractor.ElementData element : elements) {
-            String templateName = getElementTemplate(element.matterState);
+            String templateName = element.modelTemplate.getName();
             generateStaticTexture(element.name, templateName);
             System.out.println("Generated texture for element: " + element.name + " (" + element.abbreviation + ") -> " + templateName);
         }
     }
 
     private static void generateCompoundTextures() throws IOException {
-        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataExtractor.extractCompounds();
+        List<ChemLibDataExtractor.CompoundData> compounds = ChemLibDataset.get().compounds();
 
         for (ChemLibDataExtractor.CompoundData compound : compounds) {
-            String templateName = getCompoundTemplate(compound);
+            String templateName = compound.modelTemplate.getName();
             generateStaticTexture(compound.name, templateName);
             System.out.println("Generated texture for compound: " + compound.name + " -> " + templateName);
         }
     }
 
-    private static String getElementTemplate(String matterState) {
-        return switch (matterState.toLowerCase()) {
-            case "solid" -> "element_solid";
-            case "liquid" -> "element_liquid";
-            case "gas" -> "element_gas";
-            default -> "element_solid"; // fallback
-        };
-    }
-
-    private static String getCompoundTemplate(ChemLibDataExtractor.CompoundData compound) {
-        String matterState = compound.matterState.toLowerCase();
-
-        // Special logic for dust compounds (same as renderer logic)
-        if ("solid".equals(matterState)) {
-            String name = compound.name.toLowerCase();
-            if (name.contains("oxide") || name.contains("sulfate") ||
-                name.contains("chromate") || name.contains("purple") ||
-                name.contains("iodide")) {
-                return "compound_dust";
-            }
-        }
-
-        return switch (matterState) {
-            case "solid" -> "compound_solid";
-            case "liquid" -> "compound_liquid";
-            case "gas" -> "compound_gas";
-            default -> "compound_solid"; // fallback
-        };
-    }
-
     private static void generateStaticTexture(String itemName, String templateName) throws IOException {
         // Load layer textures
         String layer0Path = TEXTURES_DIR + templateName + "_layer_0.png";